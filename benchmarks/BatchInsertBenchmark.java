@@ -0,0 +1,87 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Compares insert throughput of one POST /api/cases per case against POST /api/cases/batch.
+ *
+ * <p>Start the application, then run with the JDK single-file launcher:
+ * <pre>
+ *   java benchmarks/BatchInsertBenchmark.java [baseUrl] [rows] [batchSize] [clients]
+ * </pre>
+ * Defaults: http://localhost:4000, 5000 rows, batches of 500, 8 concurrent clients.
+ */
+public class BatchInsertBenchmark {
+
+    private static final HttpClient CLIENT = HttpClient.newHttpClient();
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:4000";
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        int batchSize = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+        int clients = args.length > 3 ? Integer.parseInt(args[3]) : 8;
+
+        // warm up both paths so JIT and connection pools are settled before measuring
+        run(baseUrl, Math.min(rows, 500), 1, clients);
+        run(baseUrl, Math.min(rows, 500), batchSize, clients);
+
+        double single = run(baseUrl, rows, 1, clients);
+        double batched = run(baseUrl, rows, batchSize, clients);
+
+        System.out.printf("rows=%d clients=%d%n", rows, clients);
+        System.out.printf("per-request POST /api/cases      : %,10.0f rows/sec%n", single);
+        System.out.printf("POST /api/cases/batch (size %4d): %,10.0f rows/sec%n", batchSize, batched);
+        System.out.printf("speed-up: %.1fx%n", batched / single);
+    }
+
+    private static double run(String baseUrl, int rows, int batchSize, int clients) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        List<Future<?>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int offset = 0; offset < rows; offset += batchSize) {
+            int count = Math.min(batchSize, rows - offset);
+            int first = offset;
+            futures.add(pool.submit(() -> {
+                send(baseUrl, first, count, batchSize > 1);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        pool.shutdown();
+        return rows / seconds;
+    }
+
+    private static void send(String baseUrl, int first, int count, boolean batch) throws Exception {
+        StringBuilder body = new StringBuilder();
+        if (batch) {
+            body.append('[');
+        }
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"title\":\"Benchmark case ").append(first + i)
+                .append("\",\"description\":\"Generated by BatchInsertBenchmark\",\"status\":\"TODO\"}");
+        }
+        if (batch) {
+            body.append(']');
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + (batch ? "/api/cases/batch" : "/api/cases")))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+            .build();
+        HttpResponse<Void> response = CLIENT.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+    }
+}
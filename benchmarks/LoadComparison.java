@@ -0,0 +1,123 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load against a running instance: many concurrent clients issuing blocking reads and status updates.
+ * Run it once against each request execution mode and compare the printed throughput and p99:
+ * <pre>
+ *   CASE_CACHE_TYPE=none VIRTUAL_THREADS_ENABLED=false ./gradlew bootRun
+ *   java benchmarks/LoadComparison.java platform http://localhost:4000 2000 30
+ *
+ *   CASE_CACHE_TYPE=none VIRTUAL_THREADS_ENABLED=true ./gradlew bootRun
+ *   java benchmarks/LoadComparison.java virtual http://localhost:4000 2000 30
+ * </pre>
+ * Arguments: label, base URL, concurrent clients, duration in seconds. Each client performs 90% reads and 10%
+ * status updates against 1,000 seeded cases. The cache is turned off so every request blocks on JDBC.
+ */
+public class LoadComparison {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+
+    public static void main(String[] args) throws Exception {
+        String label = args.length > 0 ? args[0] : "run";
+        String baseUrl = args.length > 1 ? args[1] : "http://localhost:4000";
+        int clients = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+
+        long[] ids = seed(baseUrl, 1000);
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        List<long[]> perClient = new ArrayList<>(clients);
+        AtomicLong errors = new AtomicLong();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                long[] samples = new long[1 << 12];
+                perClient.add(samples);
+                executor.submit(() -> drive(baseUrl, ids, deadline, samples, errors));
+            }
+        }
+
+        long total = perClient.stream().mapToLong(samples -> samples[0]).sum();
+        long[] latencies = new long[(int) total];
+        int offset = 0;
+        for (long[] samples : perClient) {
+            int count = (int) samples[0];
+            System.arraycopy(samples, 1, latencies, offset, count);
+            offset += count;
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf("%s: clients=%d duration=%ds requests=%d errors=%d%n",
+                          label, clients, seconds, total, errors.get());
+        System.out.printf("%s: throughput %.0f req/s, p50 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                          label, total / (double) seconds, percentile(latencies, 0.50),
+                          percentile(latencies, 0.99), percentile(latencies, 1.0));
+    }
+
+    // samples[0] holds the count; latencies in nanoseconds follow
+    private static void drive(String baseUrl, long[] ids, long deadline, long[] samples, AtomicLong errors) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline && samples[0] < samples.length - 1) {
+            long id = ids[random.nextInt(ids.length)];
+            HttpRequest request = random.nextInt(10) == 0
+                ? HttpRequest.newBuilder(URI.create(baseUrl + "/api/cases/" + id + "/status"))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString("{\"status\":\"IN_PROGRESS\"}"))
+                    .build()
+                : HttpRequest.newBuilder(URI.create(baseUrl + "/api/cases/" + id)).GET().build();
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = CLIENT.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 400) {
+                    errors.incrementAndGet();
+                }
+            } catch (Exception e) {
+                errors.incrementAndGet();
+            }
+            samples[(int) ++samples[0]] = System.nanoTime() - start;
+        }
+    }
+
+    private static long[] seed(String baseUrl, int count) throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"title\":\"Load case ").append(i).append("\",\"status\":\"TODO\"}");
+        }
+        body.append(']');
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/cases/batch"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+            .build();
+        String response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = ID.matcher(response);
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,136 @@
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Time from launching the application to its first successful {@code GET /api/cases/{id}}, for one packaging mode.
+ * Run it once per mode and compare the printed medians:
+ * <pre>
+ *   ./gradlew bootJar
+ *   java benchmarks/StartupBenchmark.java jar 10 -- java -jar build/libs/test-backend.jar
+ *
+ *   ./gradlew cdsArchive
+ *   java benchmarks/StartupBenchmark.java cds 10 -- \
+ *     java -XX:SharedArchiveFile=build/cds/application.jsa -jar build/cds/test-backend.jar
+ *
+ *   ./gradlew -Paot cdsArchive
+ *   java benchmarks/StartupBenchmark.java aot 10 -- java -Dspring.aot.enabled=true -jar build/libs/test-backend.jar
+ *   java benchmarks/StartupBenchmark.java aot-cds 10 -- java -Dspring.aot.enabled=true \
+ *     -XX:SharedArchiveFile=build/cds/application.jsa -jar build/cds/test-backend.jar
+ * </pre>
+ * Arguments: label, measured runs, then the launch command. The benchmark appends the port and a throwaway H2
+ * file database to the command. An unmeasured first run migrates that database and creates the case to fetch, so
+ * every measured run starts against the same existing schema.
+ */
+public class StartupBenchmark {
+
+    private static final int PORT = 4100;
+    private static final String BASE_URL = "http://localhost:" + PORT;
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(2);
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(1))
+        .build();
+
+    public static void main(String[] args) throws Exception {
+        int separator = Arrays.asList(args).indexOf("--");
+        if (separator < 2 || separator == args.length - 1) {
+            System.err.println("usage: StartupBenchmark <label> <runs> -- <command...>");
+            System.exit(2);
+        }
+        String label = args[0];
+        int runs = Integer.parseInt(args[1]);
+        Path database = Files.createTempDirectory("startup-benchmark").resolve("cases");
+        List<String> command = new ArrayList<>(Arrays.asList(args).subList(separator + 1, args.length));
+        command.add("--server.port=" + PORT);
+        command.add("--spring.datasource.url=jdbc:h2:file:" + database);
+        command.add("--spring.datasource.username=sa");
+        command.add("--spring.datasource.password=");
+
+        Files.createDirectories(Path.of("build"));
+        long id = seed(command);
+        long[] millis = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            millis[run] = timeToFirstRead(command, id);
+            System.out.printf("%s: run %d took %d ms%n", label, run + 1, millis[run]);
+        }
+        Arrays.sort(millis);
+        System.out.printf("%s: time to first GET /api/cases/{id} over %d runs: min %d ms, median %d ms, max %d ms%n",
+                          label, runs, millis[0], millis[runs / 2], millis[runs - 1]);
+    }
+
+    private static long seed(List<String> command) throws Exception {
+        Process process = start(command);
+        try {
+            // the root page is always mapped; actuator health is not exposed over HTTP
+            awaitOk(HttpRequest.newBuilder(URI.create(BASE_URL + "/")).GET().build(), process);
+            HttpRequest create = HttpRequest.newBuilder(URI.create(BASE_URL + "/api/cases"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"Startup case\",\"status\":\"TODO\"}"))
+                .build();
+            Matcher matcher = ID.matcher(CLIENT.send(create, HttpResponse.BodyHandlers.ofString()).body());
+            if (!matcher.find()) {
+                throw new IllegalStateException("Could not create the case to read");
+            }
+            return Long.parseLong(matcher.group(1));
+        } finally {
+            stop(process);
+        }
+    }
+
+    private static long timeToFirstRead(List<String> command, long id) throws Exception {
+        HttpRequest read = HttpRequest.newBuilder(URI.create(BASE_URL + "/api/cases/" + id)).GET().build();
+        long started = System.nanoTime();
+        Process process = start(command);
+        try {
+            awaitOk(read, process);
+            return (System.nanoTime() - started) / 1_000_000;
+        } finally {
+            stop(process);
+        }
+    }
+
+    private static Process start(List<String> command) throws Exception {
+        return new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.appendTo(new File("build/startup-benchmark.log")))
+            .start();
+    }
+
+    private static void awaitOk(HttpRequest request, Process process) throws Exception {
+        long deadline = System.nanoTime() + START_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited; see build/startup-benchmark.log");
+            }
+            try {
+                if (CLIENT.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("No successful response within " + START_TIMEOUT);
+    }
+
+    private static void stop(Process process) throws Exception {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.hmcts.reform.dev.models.Case;
+
+@DataJpaTest
+class CaseArchiveTest {
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Test
+    @DisplayName("Archiving should move old closed cases to the archive and leave the rest in place")
+    void copyToArchiveAndDelete_OldClosedCases_MovesThemOnly() {
+        LocalDateTime now = LocalDateTime.now();
+        Case old = save("COMPLETED", now.minusDays(100));
+        save("COMPLETED", now.minusDays(1));
+        save("TODO", now.minusDays(100));
+
+        List<Long> ids = caseRepository.findIdsForArchive("COMPLETED", now.minusDays(90), PageRequest.of(0, 10));
+        int copied = caseRepository.copyToArchive(ids, now);
+        int deleted = caseRepository.deleteAllByIds(ids);
+
+        assertThat(ids).containsExactly(old.getId());
+        assertThat(copied).isEqualTo(1);
+        assertThat(deleted).isEqualTo(1);
+        assertThat(caseRepository.findById(old.getId())).isEmpty();
+        assertThat(caseRepository.count()).isEqualTo(2);
+        Case archived = caseRepository.findArchivedById(old.getId()).orElseThrow();
+        assertThat(archived.getTitle()).isEqualTo(old.getTitle());
+        assertThat(archived.getVersion()).isEqualTo(old.getVersion());
+        assertThat(caseRepository.findArchivedAllById(List.of(old.getId(), -1L))).hasSize(1);
+    }
+
+    private Case save(String status, LocalDateTime updatedDate) {
+        Case caseEntity = new Case();
+        caseEntity.setTitle(status + " case");
+        caseEntity.setStatus(status);
+        caseEntity.setCreatedDate(updatedDate);
+        caseEntity.setUpdatedDate(updatedDate);
+        return caseRepository.saveAndFlush(caseEntity);
+    }
+}
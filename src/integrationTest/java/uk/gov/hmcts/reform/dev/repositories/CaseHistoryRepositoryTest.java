@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.hmcts.reform.dev.models.CaseHistoryEntry;
+import uk.gov.hmcts.reform.dev.models.CaseHistoryEntry.Type;
+
+@DataJpaTest
+class CaseHistoryRepositoryTest {
+
+    @Autowired
+    private CaseHistoryRepository caseHistoryRepository;
+
+    @Test
+    @DisplayName("History should page one case's entries in insertion order")
+    void findHistory_AfterCursor_ReturnsLaterEntriesOfThatCase() {
+        LocalDateTime now = LocalDateTime.now();
+        List<CaseHistoryEntry> saved = caseHistoryRepository.saveAllAndFlush(List.of(
+            CaseHistoryEntry.of(1L, Type.CREATED, "TODO", null, 0L, now),
+            CaseHistoryEntry.of(2L, Type.CREATED, "TODO", null, 0L, now),
+            CaseHistoryEntry.of(1L, Type.STATUS_CHANGED, "IN_PROGRESS", "TODO", 1L, now),
+            CaseHistoryEntry.of(1L, Type.DELETED, "IN_PROGRESS", null, 1L, now)));
+
+        List<CaseHistoryEntry> page = caseHistoryRepository.findHistory(1L, saved.get(0).getId(),
+                                                                         PageRequest.ofSize(10));
+
+        assertThat(page).extracting(CaseHistoryEntry::getType).containsExactly(Type.STATUS_CHANGED, Type.DELETED);
+    }
+}
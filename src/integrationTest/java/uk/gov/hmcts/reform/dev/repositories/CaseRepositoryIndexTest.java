@@ -0,0 +1,196 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseSearchCriteria;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+
+@DataJpaTest
+@Import(StatementCapture.CaptureConfiguration.class)
+class CaseRepositoryIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StatementCapture statementCapture;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 20; i++) {
+            Case caseEntity = new Case();
+            caseEntity.setTitle("Case " + i);
+            caseEntity.setStatus(i % 2 == 0 ? "TODO" : "COMPLETED");
+            caseEntity.setCaseId("CASE-" + i);
+            caseEntity.setDueDateTime(BASE.plusDays(i));
+            caseEntity.setCreatedDate(BASE.plusHours(i));
+            caseEntity.setUpdatedDate(BASE.plusHours(i));
+            caseRepository.save(caseEntity);
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Exact caseId search should use the unique caseId index")
+    void caseIdSearch_UsesUniqueIndex() {
+        CaseSearchCriteria criteria = new CaseSearchCriteria();
+        criteria.setCaseId("CASE-3");
+
+        assertThat(explainSearch(criteria))
+            .containsIgnoringCase("UK_CASES_CASE_ID")
+            .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Status search ordered for keyset paging should use the status index")
+    void statusSearch_UsesStatusIndex() {
+        CaseSearchCriteria criteria = new CaseSearchCriteria();
+        criteria.setStatus("TODO");
+
+        assertThat(explainSearch(criteria))
+            .containsIgnoringCase("IDX_CASES_STATUS_CREATED_DATE_ID")
+            .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Due-date window search should use the due date index")
+    void dueDateWindowSearch_UsesDueDateIndex() {
+        CaseSearchCriteria criteria = new CaseSearchCriteria();
+        criteria.setDueFrom(BASE.plusDays(4));
+        criteria.setDueTo(BASE.plusDays(7));
+
+        assertThat(explainSearch(criteria))
+            .containsIgnoringCase("IDX_CASES_DUE_DATE_TIME_ID")
+            .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Created-date range search should use the created date index")
+    void createdDateRangeSearch_UsesCreatedDateIndex() {
+        CaseSearchCriteria criteria = new CaseSearchCriteria();
+        criteria.setCreatedFrom(BASE.plusHours(3));
+        criteria.setCreatedTo(BASE.plusHours(6));
+
+        assertThat(explainSearch(criteria))
+            .containsIgnoringCase("IDX_CASES_CREATED_DATE_ID")
+            .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Keyset page after a created-date cursor should use the created date index")
+    void createdDateKeysetPage_UsesCreatedDateIndex() {
+        statementCapture.clear();
+        caseRepository.findPageByCreatedDateAfter(BASE.plusHours(5), 6L, PageRequest.of(0, 3));
+
+        assertThat(statementCapture.explainLastSelect(entityManager.getEntityManager()))
+            .containsIgnoringCase("IDX_CASES_CREATED_DATE_ID")
+            .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Keyset page after a due-date cursor should be a range scan on the due date index")
+    void dueDateKeysetPage_UsesDueDateIndex() {
+        statementCapture.clear();
+        caseRepository.findPageByDueDateTimeAfter(BASE.plusDays(5), 6L, PageRequest.of(0, 3));
+
+        assertThat(statementCapture.explainLastSelect(entityManager.getEntityManager()))
+            .containsIgnoringCase("IDX_CASES_DUE_DATE_TIME_ID")
+            .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Overdue lookup should read ids from the status and due date index")
+    void overdueLookup_UsesStatusDueDateIndex() {
+        statementCapture.clear();
+        caseRepository.findIdsDueBefore("TODO", BASE.plusDays(7), PageRequest.of(0, 5));
+
+        assertThat(statementCapture.explainLastSelect(entityManager.getEntityManager()))
+            .containsIgnoringCase("IDX_CASES_STATUS_DUE_DATE_TIME_ID")
+            .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Status export should stream through the status index, not the primary key")
+    void statusExport_UsesStatusIndex() {
+        CaseSearchCriteria criteria = new CaseSearchCriteria();
+        criteria.setStatus("TODO");
+        statementCapture.clear();
+
+        try (Stream<Case> cases = caseRepository.streamForExport(criteria)) {
+            assertThat(cases).hasSize(10);
+        }
+
+        assertThat(statementCapture.explainLastSelect(entityManager.getEntityManager()))
+            .containsIgnoringCase("IDX_CASES_STATUS_CREATED_DATE_ID")
+            .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Search should combine filters and page in createdDate order")
+    void search_StatusAndDueWindow_ReturnsMatchingPage() {
+        CaseSearchCriteria criteria = new CaseSearchCriteria();
+        criteria.setStatus("TODO");
+        criteria.setDueFrom(BASE.plusDays(4));
+        criteria.setDueTo(BASE.plusDays(12));
+
+        List<Case> firstPage = caseRepository.findBy(
+            CaseSpecifications.matching(criteria, null, null),
+            query -> query.sortBy(CaseSpecifications.KEYSET_ORDER).limit(2).all()
+        );
+        Case last = firstPage.get(1);
+        List<Case> secondPage = caseRepository.findBy(
+            CaseSpecifications.matching(criteria, last.getCreatedDate(), last.getId()),
+            query -> query.sortBy(CaseSpecifications.KEYSET_ORDER).limit(2).all()
+        );
+
+        assertThat(firstPage).extracting(Case::getCaseId).containsExactly("CASE-4", "CASE-6");
+        assertThat(secondPage).extracting(Case::getCaseId).containsExactly("CASE-8", "CASE-10");
+    }
+
+    @Test
+    @DisplayName("Summary pages should read list columns without managing any entities")
+    void summaryPage_ReadsDtosOnly() {
+        entityManager.clear();
+
+        List<CaseSummary> firstPage = caseRepository.findFirstSummaryPageByCreatedDate(PageRequest.of(0, 2));
+        List<CaseSummary> secondPage = caseRepository.findSummaryPageByCreatedDateAfter(
+            firstPage.get(1).createdDate(), firstPage.get(1).id(), PageRequest.of(0, 2));
+
+        assertThat(firstPage).extracting(CaseSummary::caseId).containsExactly("CASE-0", "CASE-1");
+        assertThat(secondPage).extracting(CaseSummary::caseId).containsExactly("CASE-2", "CASE-3");
+        assertThat(firstPage.get(0).dueDateTime()).isEqualTo(BASE);
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    /**
+     * EXPLAINs the statement {@link CaseSpecifications} produces for a first search page.
+     */
+    private String explainSearch(CaseSearchCriteria criteria) {
+        statementCapture.clear();
+        caseRepository.findBy(
+            CaseSpecifications.matching(criteria, null, null),
+            query -> query.sortBy(CaseSpecifications.KEYSET_ORDER).limit(3).all()
+        );
+        return statementCapture.explainLastSelect(entityManager.getEntityManager());
+    }
+}
@@ -0,0 +1,120 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository.CaseBeforeChange;
+
+@DataJpaTest
+class CaseStatusUpdateTest {
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Case stored;
+
+    @BeforeEach
+    void setUp() {
+        Case caseEntity = new Case();
+        caseEntity.setTitle("Case");
+        caseEntity.setStatus("TODO");
+        caseEntity.setCreatedDate(LocalDateTime.now());
+        caseEntity.setUpdatedDate(LocalDateTime.now());
+        stored = caseRepository.saveAndFlush(caseEntity);
+    }
+
+    @Test
+    @DisplayName("Conditional update should apply at the expected version, bump it and return the old row")
+    void updateStatusIfVersion_CurrentVersion_UpdatesAndIncrementsVersion() {
+        CaseBeforeChange before = caseRepository.updateStatusIfVersion(stored.getId(), "COMPLETED",
+                                                                       stored.getVersion(), LocalDateTime.now())
+            .orElseThrow();
+        entityManager.clear();
+
+        Case reloaded = caseRepository.findById(stored.getId()).orElseThrow();
+        assertThat(before.getStatus()).isEqualTo("TODO");
+        assertThat(before.getVersion()).isEqualTo(stored.getVersion());
+        assertThat(before.getTitle()).isEqualTo("Case");
+        assertThat(before.getCreatedDate()).isEqualTo(reloaded.getCreatedDate());
+        assertThat(reloaded.getStatus()).isEqualTo("COMPLETED");
+        assertThat(reloaded.getVersion()).isEqualTo(stored.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("Conditional update should not apply at a stale version and return the row at its current version")
+    void updateStatusIfVersion_StaleVersion_UpdatesNothing() {
+        caseRepository.updateStatus(stored.getId(), "IN_PROGRESS", LocalDateTime.now());
+
+        Optional<CaseBeforeChange> before = caseRepository.updateStatusIfVersion(
+            stored.getId(), "COMPLETED", stored.getVersion(), LocalDateTime.now());
+        entityManager.clear();
+
+        Case reloaded = caseRepository.findById(stored.getId()).orElseThrow();
+        assertThat(before).map(CaseBeforeChange::getVersion).contains(stored.getVersion() + 1);
+        assertThat(reloaded.getStatus()).isEqualTo("IN_PROGRESS");
+        assertThat(reloaded.getVersion()).isEqualTo(stored.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("Overdue transition should only move cases still in the expected status")
+    void transitionStatus_OverdueCase_SkipsCasesThatMovedOn() {
+        stored.setDueDateTime(LocalDateTime.now().minusDays(1));
+        caseRepository.saveAndFlush(stored);
+
+        List<Long> due = caseRepository.findIdsDueBefore("TODO", LocalDateTime.now(), PageRequest.of(0, 10));
+        caseRepository.updateStatus(stored.getId(), "COMPLETED", LocalDateTime.now());
+        entityManager.clear();
+        int updated = caseRepository.transitionStatus(due, "TODO", "OVERDUE", LocalDateTime.now());
+
+        assertThat(due).containsExactly(stored.getId());
+        assertThat(updated).isZero();
+        assertThat(caseRepository.findById(stored.getId()).orElseThrow().getStatus()).isEqualTo("COMPLETED");
+    }
+
+    @Test
+    @DisplayName("Status counts should group every case by status")
+    void countByStatus_GroupsCases() {
+        assertThat(caseRepository.updateStatus(stored.getId(), "COMPLETED", LocalDateTime.now()))
+            .map(CaseBeforeChange::getStatus)
+            .contains("TODO");
+
+        assertThat(caseRepository.countByStatus())
+            .extracting(CaseRepository.StatusCount::getStatus, CaseRepository.StatusCount::getCount)
+            .containsExactly(tuple("COMPLETED", 1L));
+    }
+
+    @Test
+    @DisplayName("Deleting a case twice should return the removed row only the first time")
+    void deleteReturningRow_DeletedTwice_ReturnsRowOnce() {
+        Optional<CaseBeforeChange> first = caseRepository.deleteReturningRow(stored.getId());
+        Optional<CaseBeforeChange> second = caseRepository.deleteReturningRow(stored.getId());
+        entityManager.clear();
+
+        assertThat(first).map(CaseBeforeChange::getStatus).contains("TODO");
+        assertThat(first).map(CaseBeforeChange::getVersion).contains(stored.getVersion());
+        assertThat(second).isEmpty();
+        assertThat(caseRepository.findById(stored.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Unconditional update of a missing case should return nothing")
+    void updateStatus_MissingCase_ReturnsEmpty() {
+        assertThat(caseRepository.updateStatus(stored.getId() + 1000, "COMPLETED", LocalDateTime.now())).isEmpty();
+    }
+}
@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository.CaseBeforeChange;
+
+/**
+ * Starts from the schema before the version backfill, writes cases the way older code did, then applies the
+ * remaining migrations. Not transactional, so the migration sees the rows.
+ */
+@DataJpaTest(properties = "spring.flyway.target=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CaseVersionMigrationTest {
+
+    private static final long UPDATED_ID = 1000L;
+    private static final long UNTOUCHED_ID = 1001L;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    void migrateWithExistingCases() {
+        for (long id : new long[] {UPDATED_ID, UNTOUCHED_ID}) {
+            jdbc.update("insert into cases (id, title, status, created_date, updated_date)"
+                            + " values (?, 'Existing case', 'TODO', current_timestamp, current_timestamp)", id);
+        }
+        Flyway.configure().configuration(flyway.getConfiguration()).target("latest").load().migrate();
+    }
+
+    @Test
+    @DisplayName("Existing cases should be backfilled to version 0 and the column made NOT NULL")
+    void migrate_ExistingCase_BackfillsVersion() {
+        assertThat(jdbc.queryForObject("select version from cases where id = ?", Long.class, UNTOUCHED_ID))
+            .isZero();
+        assertThat(jdbc.queryForObject("select is_nullable from information_schema.columns"
+                                           + " where table_name = 'CASES' and column_name = 'VERSION'", String.class))
+            .isEqualTo("NO");
+    }
+
+    @Test
+    @DisplayName("A conditional update on an existing case should apply at version 0 and bump it")
+    void updateStatusIfVersion_ExistingCase_UpdatesAndIncrementsVersion() {
+        Optional<CaseBeforeChange> before = new TransactionTemplate(transactionManager).execute(status -> caseRepository
+            .updateStatusIfVersion(UPDATED_ID, "COMPLETED", 0L, LocalDateTime.now()));
+
+        Case reloaded = caseRepository.findById(UPDATED_ID).orElseThrow();
+        assertThat(before).map(CaseBeforeChange::getStatus).contains("TODO");
+        assertThat(reloaded.getStatus()).isEqualTo("COMPLETED");
+        assertThat(reloaded.getVersion()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,126 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and the replica; each holds one row naming itself.
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final String WHICH = "select name from node";
+    private static final Duration CHECK_TIMEOUT = Duration.ofSeconds(1);
+
+    private final DataSource primary = database("primary");
+    private final DataSource replica = database("replica");
+
+    private ReadReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        useReplica(replica);
+    }
+
+    @Test
+    @DisplayName("Read-only transactions should go to the replica and everything else to the primary")
+    void getConnection_ReadOnlyTransaction_UsesReplica() {
+        assertThat(readOnly.execute(status -> jdbc.queryForObject(WHICH, String.class))).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> jdbc.queryForObject(WHICH, String.class))).isEqualTo("primary");
+        assertThat(jdbc.queryForObject(WHICH, String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Reads should fall back to the primary while the replica is marked unusable")
+    void getConnection_ReplicaUnusable_UsesPrimary() {
+        routing.setReplicaUsable(false);
+
+        assertThat(readOnly.execute(status -> jdbc.queryForObject(WHICH, String.class))).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Reads should fall back to the primary when the replica cannot be reached")
+    void getConnection_ReplicaDown_UsesPrimary() {
+        useReplica(new DriverManagerDataSource("jdbc:h2:mem:missing;IFEXISTS=TRUE"));
+
+        assertThat(readOnly.execute(status -> jdbc.queryForObject(WHICH, String.class))).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("The lag monitor should stop replica reads while it lags and resume once it catches up")
+    void check_LagAboveMax_MarksReplicaUnusableUntilCaughtUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new ReplicaLagMonitor(replica, routing, meterRegistry, "select 10", Duration.ofSeconds(5), CHECK_TIMEOUT)
+            .check();
+
+        assertThat(routing.isReplicaUsable()).isFalse();
+
+        new ReplicaLagMonitor(replica, routing, meterRegistry, "", Duration.ofSeconds(5), CHECK_TIMEOUT).check();
+
+        assertThat(routing.isReplicaUsable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("The lag monitor should mark a replica that never answers unusable within the check timeout")
+    void check_ReplicaUnreachable_MarksUnusableWithinTimeout() {
+        // stands in for a host that drops packets: connecting hangs instead of failing
+        DataSource unreachable = new DelegatingDataSource(replica) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                try {
+                    Thread.sleep(Duration.ofMinutes(1));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new SQLException("Connection timed out");
+            }
+        };
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(unreachable, routing, new SimpleMeterRegistry(), "",
+                                                          Duration.ofSeconds(5), Duration.ofMillis(200));
+
+        long started = System.nanoTime();
+        monitor.check();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+        assertThat(routing.isReplicaUsable()).isFalse();
+        assertThat(readOnly.execute(status -> jdbc.queryForObject(WHICH, String.class))).isEqualTo("primary");
+        monitor.close();
+    }
+
+    private void useReplica(DataSource replicaDataSource) {
+        routing = new ReadReplicaRoutingDataSource(primary, replicaDataSource);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table if not exists node (name varchar(20))");
+        jdbc.update("delete from node");
+        jdbc.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+}
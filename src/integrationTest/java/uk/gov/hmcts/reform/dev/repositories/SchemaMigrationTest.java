@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The schema comes only from the migrations; Hibernate validates every entity against it, so a mapping change
+ * without a matching migration fails here rather than at deploy time.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+class SchemaMigrationTest {
+
+    // the cases table as hibernate.ddl-auto created it before migrations existed, as in data/testdb
+    private static final String ORIGINAL_SCHEMA = """
+        create table cases (
+            id bigint generated by default as identity not null,
+            case_id varchar(255),
+            created_date timestamp(6),
+            description varchar(255),
+            due_date_time timestamp(6),
+            status varchar(255) not null,
+            title varchar(255) not null,
+            updated_date timestamp(6),
+            primary key (id)
+        )""";
+
+    // Case's cases_seq allocationSize; Hibernate uses the ids up to each sequence value it reads
+    private static final long ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    @DisplayName("Migrations should apply cleanly and produce the schema the entities expect")
+    void migrate_EmptyDatabase_MatchesEntities() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current().getVersion().getVersion()).isEqualTo("4");
+    }
+
+    @Test
+    @DisplayName("The case sequence should start above ids already in an existing database")
+    void migrate_ExistingCases_StartsSequenceAboveThem() {
+        JdbcTemplate jdbc = originalDatabase("existing-cases");
+
+        migrate(jdbc.getDataSource());
+
+        long next = jdbc.queryForObject("select next value for cases_seq", Long.class);
+        assertThat(next - ALLOCATION_SIZE + 1).isGreaterThan(3);
+    }
+
+    @Test
+    @DisplayName("An original database should be adopted at version 1 and migrated with its cases kept")
+    void migrate_OriginalDatabase_KeepsCasesAndAddsNewSchema() {
+        JdbcTemplate jdbc = originalDatabase("original-database");
+
+        migrate(jdbc.getDataSource());
+
+        assertThat(jdbc.queryForList("select version from flyway_schema_history order by installed_rank",
+                                     String.class))
+            .containsExactly("1", "2", "3", "4");
+        assertThat(jdbc.queryForList("select case_id from cases order by id", String.class))
+            .containsExactly("CASE-1", "CASE-2", "CASE-3");
+        assertThat(jdbc.queryForList("select distinct version from cases", Long.class)).containsExactly(0L);
+        assertThat(jdbc.queryForObject("select count(*) from information_schema.indexes"
+                                           + " where index_name = 'IDX_CASES_STATUS_UPDATED_DATE_ID'", Long.class))
+            .isPositive();
+        assertThat(jdbc.queryForObject("select count(*) from information_schema.tables"
+                                           + " where table_name in ('CASE_EVENTS', 'CASES_ARCHIVE')", Long.class))
+            .isEqualTo(2);
+    }
+
+    private static JdbcTemplate originalDatabase(String name) {
+        JdbcTemplate jdbc = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbc.execute(ORIGINAL_SCHEMA);
+        for (int i = 1; i <= 3; i++) {
+            jdbc.update("insert into cases (title, status, case_id) values (?, 'TODO', ?)", "Case " + i, "CASE-" + i);
+        }
+        return jdbc;
+    }
+
+    // the spring.flyway settings in application.yaml
+    private static void migrate(DataSource dataSource) {
+        Flyway.configure()
+            .dataSource(dataSource)
+            .baselineOnMigrate(true)
+            .baselineVersion("1")
+            .load()
+            .migrate();
+    }
+}
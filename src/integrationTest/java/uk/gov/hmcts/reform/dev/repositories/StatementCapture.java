@@ -0,0 +1,110 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import jakarta.persistence.EntityManager;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Records the statements sent through the data source with their bound parameters, so a test can EXPLAIN the SQL
+ * a repository method actually generates instead of a hand-written copy of it. Add it to a test with
+ * {@code @Import(StatementCapture.CaptureConfiguration.class)}.
+ */
+class StatementCapture implements QueryExecutionListener {
+
+    private final List<CapturedStatement> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // only the statement text and its parameters are needed
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            List<List<ParameterSetOperation>> parameters = queryInfo.getParametersList();
+            // copied, since the proxy reuses its parameter lists for the next execution
+            statements.add(new CapturedStatement(
+                queryInfo.getQuery(), parameters.isEmpty() ? List.of() : new ArrayList<>(parameters.get(0))));
+        }
+    }
+
+    void clear() {
+        statements.clear();
+    }
+
+    /**
+     * Runs the last captured SELECT again under EXPLAIN, with the same parameters, on the test's own connection.
+     */
+    String explainLastSelect(EntityManager entityManager) {
+        CapturedStatement select = statements.reversed().stream()
+            .filter(statement -> statement.sql().trim().toLowerCase(Locale.ROOT).startsWith("select"))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("no SELECT was captured"));
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> explain(connection, select));
+    }
+
+    private static String explain(Connection connection, CapturedStatement select) throws SQLException {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + select.sql())) {
+            for (ParameterSetOperation operation : select.parameters()) {
+                Object[] args = operation.getArgs();
+                int index = (Integer) args[0];
+                if ("setNull".equals(operation.getMethod().getName())) {
+                    explain.setNull(index, (Integer) args[1]);
+                } else {
+                    explain.setObject(index, args[1]);
+                }
+            }
+            try (ResultSet plan = explain.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        }
+    }
+
+    private record CapturedStatement(String sql, List<ParameterSetOperation> parameters) {
+    }
+
+    @TestConfiguration
+    static class CaptureConfiguration {
+
+        @Bean
+        StatementCapture statementCapture() {
+            return new StatementCapture();
+        }
+
+        @Bean
+        static BeanPostProcessor statementCaptureDataSourceWrapper(ObjectProvider<StatementCapture> capture) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(capture.getObject())
+                            .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+
+@DataJpaTest
+class CaseExportServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private CaseExportService caseExportService;
+
+    private final List<Case> stored = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        caseExportService = new CaseExportService(caseRepository, entityManager.getEntityManager(), objectMapper);
+        for (int i = 0; i < 6; i++) {
+            Case caseEntity = new Case();
+            caseEntity.setTitle("Case " + i);
+            caseEntity.setStatus(i % 2 == 0 ? "TODO" : "COMPLETED");
+            caseEntity.setCaseId("CASE-" + i);
+            caseEntity.setCreatedDate(BASE.plusHours(i));
+            caseEntity.setUpdatedDate(BASE.plusHours(i));
+            stored.add(caseRepository.save(caseEntity));
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Export should write one matching case per line in createdDate order")
+    void exportCases_StatusAndCreatedRange_WritesMatchingCasesAsNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = caseExportService.exportCases("TODO", BASE.plusHours(1), BASE.plusHours(5), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(written).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        List<String> caseIds = new ArrayList<>();
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            assertThat(node.get("status").asText()).isEqualTo("TODO");
+            caseIds.add(node.get("caseId").asText());
+        }
+        assertThat(caseIds).containsExactly("CASE-2", "CASE-4");
+    }
+
+    @Test
+    @DisplayName("Export should detach every case it writes so the persistence context does not grow")
+    void exportCases_NoFilters_DetachesWrittenCases() throws Exception {
+        long written = caseExportService.exportCases(null, null, null, new ByteArrayOutputStream());
+
+        assertThat(written).isEqualTo(stored.size());
+        assertThat(stored).noneMatch(entityManager.getEntityManager()::contains);
+    }
+}
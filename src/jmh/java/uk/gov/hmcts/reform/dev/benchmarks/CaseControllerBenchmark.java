@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+import uk.gov.hmcts.reform.dev.controllers.CaseController;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.services.CaseChangeFeed;
+import uk.gov.hmcts.reform.dev.services.CaseExportService;
+import uk.gov.hmcts.reform.dev.services.CaseHistoryService;
+import uk.gov.hmcts.reform.dev.services.CaseIngestQueue;
+import uk.gov.hmcts.reform.dev.services.CaseService;
+import uk.gov.hmcts.reform.dev.services.CaseStatsService;
+import uk.gov.hmcts.reform.dev.services.CaseTextSearchService;
+
+/**
+ * Spring MVC dispatch, argument binding and response writing for {@link CaseController}, with the service stubbed
+ * out so only the web layer is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CaseControllerBenchmark {
+
+    private static final String NEW_CASE = "{\"title\":\"Case\",\"description\":\"Benchmark\",\"status\":\"TODO\","
+        + "\"caseId\":\"CASE-1\",\"dueDateTime\":\"2024-12-31T23:59:59\"}";
+
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 10, 0);
+        Case stored = new Case();
+        stored.setId(1L);
+        stored.setTitle("Case");
+        stored.setDescription("Benchmark");
+        stored.setStatus("TODO");
+        stored.setCaseId("CASE-1");
+        stored.setDueDateTime(now.plusDays(7));
+        stored.setCreatedDate(now);
+        stored.setUpdatedDate(now);
+        stored.setVersion(1L);
+
+        CaseService caseService = mock(CaseService.class);
+        when(caseService.getCaseById(anyLong())).thenReturn(Optional.of(stored));
+        when(caseService.createCase(any(Case.class))).thenReturn(stored);
+        when(caseService.updateCaseStatus(anyLong(), eq("COMPLETED"), isNull())).thenReturn(stored);
+
+        CaseController controller = new CaseController(caseService, mock(CaseExportService.class),
+                                                       mock(CaseTextSearchService.class),
+                                                       mock(CaseStatsService.class),
+                                                       mock(CaseChangeFeed.class),
+                                                       mock(CaseIngestQueue.class),
+                                                       mock(CaseHistoryService.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Benchmark
+    public MvcResult getCaseById() throws Exception {
+        return mockMvc.perform(get("/api/cases/1")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult createCase() throws Exception {
+        return mockMvc.perform(post("/api/cases").contentType(MediaType.APPLICATION_JSON).content(NEW_CASE))
+            .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult updateCaseStatus() throws Exception {
+        return mockMvc.perform(put("/api/cases/1/status")
+                                   .contentType(MediaType.APPLICATION_JSON)
+                                   .content("{\"status\":\"COMPLETED\"}"))
+            .andReturn();
+    }
+}
@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import uk.gov.hmcts.reform.dev.models.Case;
+
+/**
+ * Jackson serialization of a single case and of a page of cases, configured as Spring Boot configures it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CaseSerializationBenchmark {
+
+    @Param({"50", "200"})
+    public int listSize;
+
+    private ObjectWriter writer;
+    private Case single;
+    private List<Case> list;
+
+    @Setup
+    public void setUp() {
+        writer = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .writer();
+        single = newCase(1);
+        list = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            list.add(newCase(i));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeCase() throws JsonProcessingException {
+        return writer.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] serializeCaseList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(list);
+    }
+
+    private static Case newCase(long id) {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 10, 0);
+        Case caseEntity = new Case();
+        caseEntity.setId(id);
+        caseEntity.setTitle("Case " + id);
+        caseEntity.setDescription("A description long enough to be representative of a real case summary.");
+        caseEntity.setStatus("TODO");
+        caseEntity.setCaseId("CASE-" + id);
+        caseEntity.setDueDateTime(now.plusDays(7));
+        caseEntity.setCreatedDate(now);
+        caseEntity.setUpdatedDate(now);
+        caseEntity.setVersion(1L);
+        return caseEntity;
+    }
+}
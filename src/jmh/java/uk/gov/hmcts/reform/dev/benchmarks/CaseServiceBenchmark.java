@@ -0,0 +1,97 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import uk.gov.hmcts.reform.dev.Application;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.services.CaseService;
+
+/**
+ * Service hot paths against the real Spring context and an in-memory H2 database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CaseServiceBenchmark {
+
+    private static final int SEEDED_CASES = 1_000;
+
+    @Param({"caffeine", "none"})
+    public String cacheType;
+
+    private ConfigurableApplicationContext context;
+    private CaseService caseService;
+    private long firstId;
+    private final AtomicLong cursor = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        SpringApplication application = new SpringApplication(Application.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        // command-line arguments, so they take precedence over application.yaml
+        context = application.run(
+            "--spring.datasource.url=jdbc:h2:mem:jmh-" + cacheType + ";DB_CLOSE_DELAY=-1",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.cache.type=" + cacheType,
+            "--cases.overdue-sweeper.enabled=false",
+            "--cases.archiver.enabled=false",
+            "--spring.main.banner-mode=off"
+        );
+        caseService = context.getBean(CaseService.class);
+
+        firstId = caseService.createCase(newCase(0)).getId();
+        for (int i = 1; i < SEEDED_CASES; i++) {
+            caseService.createCase(newCase(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public Case createCase() {
+        return caseService.createCase(newCase(-1));
+    }
+
+    @Benchmark
+    public Object getCaseById() {
+        return caseService.getCaseById(nextId());
+    }
+
+    @Benchmark
+    public Case updateCaseStatus() {
+        return caseService.updateCaseStatus(nextId(), "IN_PROGRESS", null);
+    }
+
+    private long nextId() {
+        return firstId + Math.floorMod(cursor.getAndIncrement(), SEEDED_CASES);
+    }
+
+    private static Case newCase(int index) {
+        Case caseEntity = new Case();
+        caseEntity.setTitle("Benchmark case " + index);
+        caseEntity.setDescription("Seeded for CaseServiceBenchmark");
+        caseEntity.setStatus("TODO");
+        caseEntity.setDueDateTime(LocalDateTime.now().plusDays(7));
+        return caseEntity;
+    }
+}
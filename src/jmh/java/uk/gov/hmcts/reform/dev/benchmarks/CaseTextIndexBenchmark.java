@@ -0,0 +1,56 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import uk.gov.hmcts.reform.dev.services.CaseTextIndex;
+
+/**
+ * Text search over a synthetic corpus. Word popularity follows a half-normal curve, so low-numbered words are
+ * common and high-numbered ones rare; {@code everywhere} is in every case and is the worst case for one word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CaseTextIndexBenchmark {
+
+    private static final int VOCABULARY = 5000;
+    private static final int WORDS_PER_CASE = 12;
+
+    @Param({"1000000"})
+    public int cases;
+
+    @Param({"word3", "word1 word2", "word10 word500", "word4000", "everywhere"})
+    public String query;
+
+    private CaseTextIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new CaseTextIndex();
+        Random random = new Random(42);
+        for (int id = 1; id <= cases; id++) {
+            StringBuilder text = new StringBuilder("everywhere");
+            for (int i = 0; i < WORDS_PER_CASE; i++) {
+                int word = (int) Math.min(VOCABULARY - 1, Math.abs(random.nextGaussian()) * 600);
+                text.append(" word").append(word);
+            }
+            index.add(id, text.toString());
+        }
+    }
+
+    @Benchmark
+    public List<CaseTextIndex.Hit> firstPage() {
+        return index.search(query, null, 51);
+    }
+}
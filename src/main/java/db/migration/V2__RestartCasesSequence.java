@@ -0,0 +1,33 @@
+package db.migration;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Creates {@code cases_seq} above the highest existing case id. Databases created while ids were identity-generated
+ * already hold rows, and a sequence starting at 1 would hand their ids out again. Hibernate's pooled optimizer
+ * uses the {@code allocationSize} ids up to each value it reads, so the start leaves one allocation of room.
+ * H2 only accepts a constant in START WITH, which is why this is not a SQL migration.
+ */
+@SuppressWarnings("checkstyle:TypeName")
+public class V2__RestartCasesSequence extends BaseJavaMigration {
+
+    // allocationSize of the cases_seq generator on Case
+    private static final long ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            long maxId;
+            try (ResultSet result = statement.executeQuery("select coalesce(max(id), 0) from cases")) {
+                result.next();
+                maxId = result.getLong(1);
+            }
+            statement.execute("create sequence cases_seq start with " + (maxId + ALLOCATION_SIZE)
+                                  + " increment by " + ALLOCATION_SIZE);
+        }
+    }
+}
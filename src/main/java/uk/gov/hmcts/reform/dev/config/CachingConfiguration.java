@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caches are configured through {@code spring.cache.*}; set {@code spring.cache.type=none} to switch caching off.
+ * The case cache is written through {@link uk.gov.hmcts.reform.dev.services.CaseCache}, which defers its own writes
+ * until commit, so the caches are not made transaction-aware here.
+ */
+@Configuration
+@EnableCaching
+public class CachingConfiguration {
+}
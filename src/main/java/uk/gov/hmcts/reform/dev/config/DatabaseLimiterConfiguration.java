@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import uk.gov.hmcts.reform.dev.repositories.ConnectionLimitingDataSource;
+
+/**
+ * With {@code cases.db-limiter.enabled}, puts a {@link ConnectionLimitingDataSource} sized to the pool in front of
+ * every Hikari pool, the primary and any read replica alike. It is applied before the other data source wrappers so
+ * that it sits directly on the pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cases.db-limiter.enabled", havingValue = "true")
+public class DatabaseLimiterConfiguration {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourceWrapper(Environment environment) {
+        Duration acquireTimeout = environment.getProperty(
+            "cases.db-limiter.acquire-timeout", Duration.class, Duration.ofSeconds(5));
+        return new PoolWrapper(acquireTimeout);
+    }
+
+    private record PoolWrapper(Duration acquireTimeout) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource pool) {
+                return new ConnectionLimitingDataSource(pool, pool.getMaximumPoolSize(), acquireTimeout);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
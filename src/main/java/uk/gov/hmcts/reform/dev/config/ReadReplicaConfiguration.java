@@ -0,0 +1,83 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import uk.gov.hmcts.reform.dev.repositories.ReadReplicaRoutingDataSource;
+import uk.gov.hmcts.reform.dev.repositories.ReplicaLagMonitor;
+
+/**
+ * With {@code cases.read-replica.enabled}, replaces the single auto-configured pool with a primary pool built from
+ * {@code spring.datasource} and a replica pool built from {@code cases.read-replica.datasource}. The application's
+ * data source routes {@code @Transactional(readOnly = true)} work to the replica; see
+ * {@link ReadReplicaRoutingDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cases.read-replica.enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("cases.read-replica.datasource.hikari")
+    public HikariDataSource replicaDataSource(Environment environment) {
+        return replicaProperties(environment).initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+        @Qualifier("primaryDataSource") DataSource primary,
+        @Qualifier("replicaDataSource") DataSource replica) {
+        return new ReadReplicaRoutingDataSource(primary, replica);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource routing) {
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * The monitor opens its own connection for each check, outside the replica pool, so a check never queues
+     * behind reads for a pooled connection.
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(Environment environment,
+                                               ReadReplicaRoutingDataSource routing,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${cases.read-replica.lag-query:}") String lagQuery,
+                                               @Value("${cases.read-replica.max-lag:5s}") Duration maxLag,
+                                               @Value("${cases.read-replica.check-timeout:1s}") Duration checkTimeout) {
+        DataSource checks = replicaProperties(environment).initializeDataSourceBuilder()
+            .type(SimpleDriverDataSource.class)
+            .build();
+        return new ReplicaLagMonitor(checks, routing, meterRegistry, lagQuery, maxLag, checkTimeout);
+    }
+
+    private static DataSourceProperties replicaProperties(Environment environment) {
+        // bound by hand: a second DataSourceProperties bean would make injecting Boot's own one ambiguous
+        return Binder.get(environment)
+            .bind("cases.read-replica.datasource", DataSourceProperties.class)
+            .orElseThrow(() -> new IllegalStateException("cases.read-replica.datasource.url is required"));
+    }
+}
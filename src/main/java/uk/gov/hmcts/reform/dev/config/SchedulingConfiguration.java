@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Background jobs are individually switched with their own {@code cases.*.enabled} property.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import uk.gov.hmcts.reform.dev.monitoring.SlowQueryLog;
+
+/**
+ * Wraps the application's data source so every statement passes through {@link SlowQueryLog}. This replaces
+ * {@code spring.jpa.show-sql}, which printed each statement to stdout synchronously. Only pools are wrapped, not
+ * data sources that delegate to them, so each statement is recorded once under the name of the pool it ran on.
+ */
+@Configuration
+public class SlowQueryLogConfiguration {
+
+    @Bean
+    public static BeanPostProcessor slowQueryLogDataSourceWrapper(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                    && !(bean instanceof DelegatingDataSource) && !(bean instanceof AbstractRoutingDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(slowQueryLog.getObject())
+                        .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import uk.gov.hmcts.reform.dev.controllers.ClientErrorMetricsInterceptor;
+
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public WebConfiguration(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // web test slices run without a meter registry
+        meterRegistry.ifAvailable(meters -> registry.addInterceptor(new ClientErrorMetricsInterceptor(meters))
+            .addPathPatterns("/api/cases/**", "/api/cases"));
+    }
+}
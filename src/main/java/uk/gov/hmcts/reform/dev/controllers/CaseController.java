@@ -1,11 +1,17 @@
 package uk.gov.hmcts.reform.dev.controllers;
 
+import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,22 +19,64 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import uk.gov.hmcts.reform.dev.models.BatchItemResult;
 import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseHistoryEntry;
+import uk.gov.hmcts.reform.dev.models.CaseIngestStatus;
+import uk.gov.hmcts.reform.dev.models.CaseLookup;
+import uk.gov.hmcts.reform.dev.models.CasePage;
+import uk.gov.hmcts.reform.dev.models.CaseSearchCriteria;
+import uk.gov.hmcts.reform.dev.models.CaseSort;
+import uk.gov.hmcts.reform.dev.models.CaseStats;
+import uk.gov.hmcts.reform.dev.models.CaseStatusUpdate;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+import uk.gov.hmcts.reform.dev.services.CaseChangeFeed;
+import uk.gov.hmcts.reform.dev.services.CaseCursor;
+import uk.gov.hmcts.reform.dev.services.CaseExportService;
+import uk.gov.hmcts.reform.dev.services.CaseHistoryService;
+import uk.gov.hmcts.reform.dev.services.CaseIngestQueue;
 import uk.gov.hmcts.reform.dev.services.CaseService;
+import uk.gov.hmcts.reform.dev.services.CaseStatsService;
+import uk.gov.hmcts.reform.dev.services.CaseTextCursor;
+import uk.gov.hmcts.reform.dev.services.CaseTextSearchService;
 
 @RestController
 @RequestMapping("/api/cases")
 public class CaseController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final CaseService caseService;
+    private final CaseExportService caseExportService;
+    private final CaseTextSearchService caseTextSearchService;
+    private final CaseStatsService caseStatsService;
+    private final CaseChangeFeed caseChangeFeed;
+    private final CaseIngestQueue caseIngestQueue;
+    private final CaseHistoryService caseHistoryService;
 
     @Autowired
-    public CaseController(CaseService caseService) {
+    public CaseController(CaseService caseService,
+                          CaseExportService caseExportService,
+                          CaseTextSearchService caseTextSearchService,
+                          CaseStatsService caseStatsService,
+                          CaseChangeFeed caseChangeFeed,
+                          CaseIngestQueue caseIngestQueue,
+                          CaseHistoryService caseHistoryService) {
         this.caseService = caseService;
+        this.caseExportService = caseExportService;
+        this.caseTextSearchService = caseTextSearchService;
+        this.caseStatsService = caseStatsService;
+        this.caseChangeFeed = caseChangeFeed;
+        this.caseIngestQueue = caseIngestQueue;
+        this.caseHistoryService = caseHistoryService;
     }
 
     @PostMapping
@@ -36,37 +84,214 @@ public class CaseController {
         if (caseEntity.getTitle() == null || caseEntity.getTitle().trim().isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
-        Case createdCase = caseService.createCase(caseEntity);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdCase);
+        try {
+            Case createdCase = caseService.createCase(caseEntity);
+            return ResponseEntity.status(HttpStatus.CREATED).body(createdCase);
+        } catch (DataIntegrityViolationException e) {
+            // caseId is unique
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * Accepts a case for write-behind insertion and returns a token to poll with {@link #getIngestStatus}. A 202
+     * only means the case is queued in memory; see {@link CaseIngestQueue} for what can still lose it.
+     */
+    @PostMapping("/async")
+    public ResponseEntity<CaseIngestStatus> createCaseAsync(@Valid @RequestBody Case caseEntity) {
+        if (caseEntity.getTitle() == null || caseEntity.getTitle().trim().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return caseIngestQueue.submit(caseEntity)
+            .map(status -> ResponseEntity.accepted()
+                .location(URI.create("/api/cases/async/" + status.getToken()))
+                .body(status))
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build());
+    }
+
+    @GetMapping("/async/{token}")
+    public ResponseEntity<CaseIngestStatus> getIngestStatus(@PathVariable String token) {
+        return ResponseEntity.of(caseIngestQueue.getStatus(token));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResult>> createCases(@RequestBody List<Case> cases) {
+        return ResponseEntity.ok(caseService.createCases(cases));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Case> getCaseById(@PathVariable Long id) {
         Optional<Case> caseEntity = caseService.getCaseById(id);
-        return caseEntity.map(ResponseEntity::ok)
-                   .orElse(ResponseEntity.notFound().build());
+        if (caseEntity.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(CaseEtags.of(caseEntity.get()));
+        CaseEtags.lastModified(caseEntity.get()).ifPresent(response::lastModified);
+        return response.body(caseEntity.get());
+    }
+
+    /**
+     * Recorded changes to a case, oldest first. History is kept after the case is deleted, and the latest change
+     * can take a moment to appear.
+     */
+    @GetMapping("/{id}/history")
+    public ResponseEntity<CasePage<CaseHistoryEntry>> getCaseHistory(@PathVariable Long id,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "50") int size) {
+        Long after = null;
+        if (cursor != null) {
+            try {
+                after = Long.parseLong(cursor);
+            } catch (NumberFormatException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        if (size < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(caseHistoryService.getHistory(id, after, size));
     }
 
     @GetMapping
-    public ResponseEntity<List<Case>> getAllCases() {
-        List<Case> cases = caseService.getAllCases();
-        return ResponseEntity.ok(cases);
+    public ResponseEntity<CasePage<Case>> getCases(@RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "50") int size,
+                                                   @RequestParam(defaultValue = "createdDate") String sort) {
+        Optional<CaseSort> caseSort = CaseSort.fromParam(sort);
+        if (caseSort.isEmpty() || size < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        CaseCursor position = cursor == null ? null : decodeCursor(cursor, caseSort.get()).orElse(null);
+        if (cursor != null && position == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return conditional(caseService.getCasePage(caseSort.get(), position, size));
+    }
+
+    /**
+     * {@code GET /api/cases?ids=3,1,2}: the listed cases in one round trip, in the order given, with the ids that
+     * have no case reported as {@code missing}. There is no summary form, so {@code view} alongside {@code ids} is
+     * rejected rather than ignored.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<CaseLookup> getCasesByIds(@RequestParam List<Long> ids,
+                                                    @RequestParam(required = false) String view) {
+        if (ids.isEmpty() || ids.contains(null) || view != null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(caseService.getCasesByIds(ids));
+    }
+
+    /**
+     * {@code GET /api/cases?view=summary}: the same pages with only id, caseId, title, status and dueDateTime.
+     */
+    @GetMapping(params = {"view=summary", "!ids"})
+    public ResponseEntity<CasePage<CaseSummary>> getCaseSummaries(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "50") int size,
+        @RequestParam(defaultValue = "createdDate") String sort) {
+        Optional<CaseSort> caseSort = CaseSort.fromParam(sort);
+        if (caseSort.isEmpty() || size < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        CaseCursor position = cursor == null ? null : decodeCursor(cursor, caseSort.get()).orElse(null);
+        if (cursor != null && position == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        CasePage<CaseSummary> page = caseService.getCaseSummaryPage(caseSort.get(), position, size);
+        return ResponseEntity.ok().eTag(CaseEtags.ofSummaries(page)).body(page);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<CasePage<Case>> searchCases(CaseSearchCriteria criteria,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "50") int size) {
+        if (!criteria.hasValidRanges() || size < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        CaseCursor position = cursor == null ? null : decodeCursor(cursor, CaseSort.CREATED_DATE).orElse(null);
+        if (cursor != null && position == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return conditional(caseService.searchCases(criteria, position, size));
+    }
+
+    @GetMapping("/search/text")
+    public ResponseEntity<CasePage<Case>> searchCaseText(@RequestParam("q") String query,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "50") int size) {
+        if (query.isBlank() || size < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        CaseTextCursor position = cursor == null ? null : CaseTextCursor.decode(cursor).orElse(null);
+        if (cursor != null && position == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(caseTextSearchService.search(query, position, size));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<CaseStats> getCaseStats() {
+        return ResponseEntity.ok(caseStatsService.getStats());
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Long resumeAfter = null;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                resumeAfter = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        return ResponseEntity.ok(caseChangeFeed.subscribe(resumeAfter));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCases(
+        @RequestParam(required = false) String status,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        if (createdFrom != null && createdTo != null && createdFrom.isAfter(createdTo)) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = out -> caseExportService.exportCases(status, createdFrom, createdTo, out);
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
     }
 
     @PutMapping("/{id}/status")
-    public ResponseEntity<Case> updateCaseStatus(@PathVariable Long id, @RequestBody Map<String, String> statusUpdate) {
+    public ResponseEntity<Case> updateCaseStatus(
+        @PathVariable Long id,
+        @RequestBody Map<String, String> statusUpdate,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         String status = statusUpdate.get("status");
         if (status == null || status.trim().isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
-        Case updatedCase = caseService.updateCaseStatus(id, status);
+        Long expectedVersion = null;
+        if (ifMatch != null && !CaseEtags.ANY.equals(ifMatch.trim())) {
+            Optional<Long> version = CaseEtags.parseVersion(ifMatch);
+            if (version.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            expectedVersion = version.get();
+        }
+        Case updatedCase = caseService.updateCaseStatus(id, status, expectedVersion);
 
         if (updatedCase != null) {
-            return ResponseEntity.ok(updatedCase);
+            return ResponseEntity.ok().eTag(CaseEtags.of(updatedCase)).body(updatedCase);
         }
         return ResponseEntity.notFound().build();
     }
 
+    @PutMapping("/status/batch")
+    public ResponseEntity<List<BatchItemResult>> updateCaseStatuses(@RequestBody List<CaseStatusUpdate> updates) {
+        return ResponseEntity.ok(caseService.updateCaseStatuses(updates));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteCase(@PathVariable Long id) {
         boolean deleted = caseService.deleteCase(id);
@@ -75,4 +300,18 @@ public class CaseController {
         }
         return ResponseEntity.notFound().build();
     }
+
+    /**
+     * Adds an entity tag to a page response; Spring answers a matching {@code If-None-Match} with 304 before the body
+     * would be serialized. Pages get no {@code Last-Modified}: deleting or archiving the most recently updated case
+     * on a page makes its latest {@code updatedDate} go back, so {@code If-Modified-Since} would keep a page showing
+     * a case that is gone.
+     */
+    private static ResponseEntity<CasePage<Case>> conditional(CasePage<Case> page) {
+        return ResponseEntity.ok().eTag(CaseEtags.of(page)).body(page);
+    }
+
+    private static Optional<CaseCursor> decodeCursor(String cursor, CaseSort sort) {
+        return CaseCursor.decode(cursor).filter(position -> position.sort() == sort);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import org.springframework.util.DigestUtils;
+
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CasePage;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+
+/**
+ * Conditional-request validators for cases. Strong entity tags come from the optimistic-lock version, which every
+ * write bumps; a single case's modification time comes from {@code updatedDate}. Pages get entity tags only.
+ */
+final class CaseEtags {
+
+    static final String ANY = "*";
+
+    private CaseEtags() {
+    }
+
+    static String of(Case caseEntity) {
+        return "\"" + caseEntity.getVersion() + "\"";
+    }
+
+    /**
+     * A page is unchanged exactly when it holds the same cases at the same versions and the same next cursor. The
+     * tag is an MD5 digest of those, as {@link org.springframework.web.filter.ShallowEtagHeaderFilter} uses, so two
+     * different pages cannot share it by accident.
+     */
+    static String of(CasePage<Case> page) {
+        StringBuilder content = new StringBuilder();
+        for (Case item : page.getItems()) {
+            append(content, item.getId());
+            append(content, item.getVersion());
+        }
+        append(content, page.getNextCursor());
+        return "\"p" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Summaries carry no version, so the tag digests every field shown.
+     */
+    static String ofSummaries(CasePage<CaseSummary> page) {
+        StringBuilder content = new StringBuilder();
+        for (CaseSummary item : page.getItems()) {
+            append(content, item.id());
+            append(content, item.caseId());
+            append(content, item.title());
+            append(content, item.status());
+            append(content, item.dueDateTime());
+        }
+        append(content, page.getNextCursor());
+        return "\"s" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    static Optional<Instant> lastModified(Case caseEntity) {
+        return Optional.ofNullable(caseEntity.getUpdatedDate()).map(CaseEtags::toInstant);
+    }
+
+    /**
+     * Returns the version named by an {@code If-Match} value, or empty if the value cannot name any version
+     * (for example a weak tag, which never matches under the strong comparison {@code If-Match} requires).
+     */
+    static Optional<Long> parseVersion(String ifMatch) {
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(tag.substring(1, tag.length() - 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    // length-prefixed so that no two different sequences of values produce the same content
+    private static void append(StringBuilder content, Object value) {
+        if (value == null) {
+            content.append('-');
+            return;
+        }
+        String text = value.toString();
+        content.append(text.length()).append(':').append(text);
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Counts 4xx responses from the case API by status and route, so not-found and rejected requests can be alerted on
+ * without querying the request histograms. Successful requests return after a single integer comparison.
+ */
+public class ClientErrorMetricsInterceptor implements HandlerInterceptor {
+
+    static final String METRIC = "cases.http.client.errors";
+
+    private final MeterRegistry meterRegistry;
+
+    public ClientErrorMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        int status = response.getStatus();
+        if (status < 400 || status >= 500) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Counter.builder(METRIC)
+            .description("Case API responses with a 4xx status")
+            .tag("status", Integer.toString(status))
+            .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+            .tag("method", request.getMethod())
+            .register(meterRegistry)
+            .increment();
+    }
+}
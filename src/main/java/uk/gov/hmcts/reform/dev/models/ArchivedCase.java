@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * A closed case moved out of {@code cases} by the archiver. Rows are only written by the insert-select in
+ * {@link uk.gov.hmcts.reform.dev.repositories.CaseRepository#copyToArchive} and keep the case's id; they are read
+ * back as {@link Case} with {@link uk.gov.hmcts.reform.dev.repositories.CaseRepository#findArchivedById}.
+ */
+@Entity
+@Immutable
+@Table(name = "cases_archive")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ArchivedCase {
+
+    @Id
+    private Long id;
+
+    private String title;
+
+    private String description;
+
+    private String status;
+
+    private String caseId;
+    private LocalDateTime dueDateTime;
+    private LocalDateTime createdDate;
+    private LocalDateTime updatedDate;
+    private Long version;
+    private LocalDateTime archivedDate;
+}
@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult {
+
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        NOT_FOUND,
+        INVALID
+    }
+
+    private final int index;
+    private final Long id;
+    private final Outcome outcome;
+    private final String message;
+
+    public static BatchItemResult of(int index, Long id, Outcome outcome) {
+        return new BatchItemResult(index, id, outcome, null);
+    }
+
+    public static BatchItemResult invalid(int index, Long id, String message) {
+        return new BatchItemResult(index, id, Outcome.INVALID, message);
+    }
+}
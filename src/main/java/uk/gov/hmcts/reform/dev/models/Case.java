@@ -2,11 +2,15 @@ package uk.gov.hmcts.reform.dev.models;
 
 import java.time.LocalDateTime;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -14,7 +18,14 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "cases")
+@Table(name = "cases", indexes = {
+    @Index(name = "idx_cases_created_date_id", columnList = "createdDate, id"),
+    @Index(name = "idx_cases_due_date_time_id", columnList = "dueDateTime, id"),
+    @Index(name = "idx_cases_status_created_date_id", columnList = "status, createdDate, id"),
+    @Index(name = "idx_cases_status_due_date_time_id", columnList = "status, dueDateTime, id"),
+    @Index(name = "idx_cases_status_updated_date_id", columnList = "status, updatedDate, id"),
+    @Index(name = "uk_cases_case_id", columnList = "caseId", unique = true)
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -22,7 +33,9 @@ import lombok.Setter;
 public class Case {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cases_seq")
+    // pooled allocation: ids are handed out in memory so inserts can be JDBC-batched
+    @SequenceGenerator(name = "cases_seq", sequenceName = "cases_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -37,4 +50,8 @@ public class Case {
     private LocalDateTime dueDateTime;
     private LocalDateTime createdDate;
     private LocalDateTime updatedDate;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One committed change on the case change feed. {@code sequence} is also sent as the SSE event id, so a client can
+ * resume from it with {@code Last-Event-ID}. {@code version} is absent for changes made by bulk updates.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CaseFeedEvent(long sequence,
+                            Type type,
+                            Long id,
+                            String status,
+                            String previousStatus,
+                            Long version) {
+
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED,
+        DELETED,
+        ARCHIVED
+    }
+}
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One committed change to a case. Entries are only ever inserted, and are kept after the case is deleted.
+ */
+@Entity
+@Immutable
+@Table(name = "case_events", indexes = {
+    @Index(name = "idx_case_events_case_id_id", columnList = "caseId, id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CaseHistoryEntry {
+
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED,
+        DELETED,
+        ARCHIVED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "case_events_seq")
+    @SequenceGenerator(name = "case_events_seq", sequenceName = "case_events_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * The case's {@code id}, not its {@code caseId} reference.
+     */
+    @Column(nullable = false)
+    private Long caseId;
+
+    // a plain varchar rather than H2's native enum, so adding a type needs no migration
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 32)
+    private Type type;
+
+    private String status;
+
+    private String previousStatus;
+
+    /**
+     * The case's version after the change; not known for bulk status changes.
+     */
+    private Long version;
+
+    @Column(nullable = false)
+    private LocalDateTime recordedAt;
+
+    public static CaseHistoryEntry of(Long caseId, Type type, String status, String previousStatus, Long version,
+                                      LocalDateTime recordedAt) {
+        return new CaseHistoryEntry(null, caseId, type, status, previousStatus, version, recordedAt);
+    }
+}
@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CaseIngestStatus {
+
+    public enum State {
+        /**
+         * Queued in memory and not yet committed.
+         */
+        PENDING,
+        CREATED,
+        FAILED
+    }
+
+    private final String token;
+    private final State state;
+    private final Long id;
+    private final String message;
+
+    public static CaseIngestStatus pending(String token) {
+        return new CaseIngestStatus(token, State.PENDING, null, null);
+    }
+
+    public static CaseIngestStatus created(String token, Long id) {
+        return new CaseIngestStatus(token, State.CREATED, id, null);
+    }
+
+    public static CaseIngestStatus failed(String token, String message) {
+        return new CaseIngestStatus(token, State.FAILED, null, message);
+    }
+}
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class CaseLookup {
+
+    /**
+     * Found cases in the order their ids were requested.
+     */
+    private final List<Case> items;
+
+    /**
+     * Requested ids with no case.
+     */
+    private final List<Long> missing;
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class CasePage<T> {
+
+    private final List<T> items;
+
+    /**
+     * Opaque token to pass back as {@code cursor} for the following page, or {@code null} on the last page.
+     */
+    private final String nextCursor;
+}
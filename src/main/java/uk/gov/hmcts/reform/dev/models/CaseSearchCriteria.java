@@ -0,0 +1,43 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Optional filters for case search; bound from query parameters. Date-time bounds are from-inclusive, to-exclusive.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CaseSearchCriteria {
+
+    private String status;
+    private String caseId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    public boolean hasValidRanges() {
+        return isOrdered(dueFrom, dueTo) && isOrdered(createdFrom, createdTo);
+    }
+
+    private static boolean isOrdered(LocalDateTime from, LocalDateTime to) {
+        return from == null || to == null || !from.isAfter(to);
+    }
+}
@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum CaseSort {
+    CREATED_DATE("createdDate"),
+    DUE_DATE_TIME("dueDateTime");
+
+    private final String param;
+
+    CaseSort(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public static Optional<CaseSort> fromParam(String param) {
+        return Arrays.stream(values())
+            .filter(sort -> sort.param.equals(param))
+            .findFirst();
+    }
+}
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import java.time.Instant;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class CaseStats {
+
+    private final long total;
+
+    private final long overdue;
+
+    private final Map<String, Long> byStatus;
+
+    /**
+     * When the counters were last checked against the database.
+     */
+    private final Instant reconciledAt;
+}
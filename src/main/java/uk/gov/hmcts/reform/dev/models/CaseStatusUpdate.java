@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CaseStatusUpdate {
+
+    private Long id;
+    private String status;
+}
@@ -0,0 +1,200 @@
+package uk.gov.hmcts.reform.dev.monitoring;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Times every JDBC statement and logs the ones slower than {@code cases.slow-query-log.threshold}, plus a random
+ * {@code sample-rate} fraction of the rest. Slow statements are grouped by shape (literals and bind lists collapsed)
+ * so the {@code slowqueries} actuator endpoint can show the slowest query shapes rather than individual executions.
+ *
+ * <p>The shapes are kept in 15 time buckets covering the last {@code cases.slow-query-log.window}.
+ * A bucket is cleared when its slot comes round again, so a spike drops out of the list once it is older than the
+ * window instead of staying there until someone resets it.
+ */
+@Slf4j
+@Component
+public class SlowQueryLog implements QueryExecutionListener {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern BIND_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int BUCKETS = 15;
+
+    private final long thresholdMillis;
+    private final double sampleRate;
+    private final int top;
+    private final long bucketMillis;
+    private final Clock clock;
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(BUCKETS);
+
+    @Autowired
+    public SlowQueryLog(@Value("${cases.slow-query-log.threshold:200ms}") Duration threshold,
+                        @Value("${cases.slow-query-log.sample-rate:0}") double sampleRate,
+                        @Value("${cases.slow-query-log.top:20}") int top,
+                        @Value("${cases.slow-query-log.window:15m}") Duration window) {
+        this(threshold, sampleRate, top, window, Clock.systemUTC());
+    }
+
+    SlowQueryLog(Duration threshold, double sampleRate, int top, Duration window, Clock clock) {
+        this.thresholdMillis = threshold.toMillis();
+        this.sampleRate = sampleRate;
+        this.top = top;
+        this.bucketMillis = Math.max(1, window.toMillis() / BUCKETS);
+        this.clock = clock;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // timing is taken by the proxy
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            record(queryInfo.getQuery(), execInfo.getElapsedTime());
+        }
+    }
+
+    void record(String sql, long elapsedMillis) {
+        if (elapsedMillis >= thresholdMillis) {
+            String shape = normalise(sql);
+            log.warn("Slow query ({} ms): {}", elapsedMillis, shape);
+            Instant now = clock.instant();
+            Bucket bucket = currentBucket(now);
+            bucket.shapes().computeIfAbsent(shape, key -> new Stats()).add(elapsedMillis, now);
+            trim(bucket.shapes());
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info("Query ({} ms): {}", elapsedMillis, normalise(sql));
+        }
+    }
+
+    /**
+     * The slowest query shapes seen within the window (or since the last {@link #reset()}), worst first.
+     */
+    public List<SlowQuery> slowest() {
+        long oldest = clock.millis() / bucketMillis - BUCKETS + 1;
+        Map<String, Totals> merged = new HashMap<>();
+        for (int slot = 0; slot < BUCKETS; slot++) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.index() >= oldest) {
+                bucket.shapes().forEach(
+                    (shape, stats) -> merged.computeIfAbsent(shape, key -> new Totals()).add(stats));
+            }
+        }
+        return merged.entrySet().stream()
+            .map(entry -> entry.getValue().snapshot(entry.getKey()))
+            .sorted(Comparator.comparingLong(SlowQuery::maxMillis).reversed())
+            .limit(top)
+            .toList();
+    }
+
+    public void reset() {
+        for (int slot = 0; slot < BUCKETS; slot++) {
+            buckets.set(slot, null);
+        }
+    }
+
+    static String normalise(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = BIND_LIST.matcher(shape).replaceAll("(?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    private Bucket currentBucket(Instant now) {
+        long index = now.toEpochMilli() / bucketMillis;
+        int slot = (int) (index % BUCKETS);
+        while (true) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.index() >= index) {
+                return bucket;
+            }
+            // the slot still holds a bucket from an earlier lap of the ring, so it has aged out
+            Bucket fresh = new Bucket(index);
+            if (buckets.compareAndSet(slot, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private void trim(Map<String, Stats> shapes) {
+        // keep some slack over the reported top-N so a shape is not dropped the moment it is overtaken
+        while (shapes.size() > top * 2) {
+            shapes.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().max.get()))
+                .ifPresent(entry -> shapes.remove(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    public record SlowQuery(String sql, long count, long maxMillis, long meanMillis, Instant lastSeen) {
+    }
+
+    private record Bucket(long index, Map<String, Stats> shapes) {
+
+        Bucket(long index) {
+            this(index, new ConcurrentHashMap<>());
+        }
+    }
+
+    private static final class Stats {
+
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalMillis = new AtomicLong();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+        private volatile Instant lastSeen;
+
+        void add(long elapsedMillis, Instant now) {
+            count.incrementAndGet();
+            totalMillis.addAndGet(elapsedMillis);
+            max.accumulate(elapsedMillis);
+            lastSeen = now;
+        }
+    }
+
+    /**
+     * One shape's stats summed over the buckets still inside the window.
+     */
+    private static final class Totals {
+
+        private long count;
+        private long totalMillis;
+        private long max;
+        private Instant lastSeen;
+
+        void add(Stats stats) {
+            count += stats.count.get();
+            totalMillis += stats.totalMillis.get();
+            max = Math.max(max, stats.max.get());
+            Instant seen = stats.lastSeen;
+            if (seen != null && (lastSeen == null || seen.isAfter(lastSeen))) {
+                lastSeen = seen;
+            }
+        }
+
+        SlowQuery snapshot(String sql) {
+            return new SlowQuery(sql, count, max, count == 0 ? 0 : totalMillis / count, lastSeen);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import java.util.stream.Stream;
+
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseSearchCriteria;
+
+/**
+ * Streaming reads for {@link CaseRepository}, built from {@link CaseSpecifications} so only the filters supplied
+ * reach the SQL and the database can range-scan the matching index.
+ */
+public interface CaseExportRepository {
+
+    /**
+     * Every case matching {@code criteria} in (createdDate, id) order, read with a large fetch size and without
+     * dirty checking. Must be consumed inside a transaction and closed.
+     */
+    Stream<Case> streamForExport(CaseSearchCriteria criteria);
+}
@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseSearchCriteria;
+
+class CaseExportRepositoryImpl implements CaseExportRepository {
+
+    private static final int FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    CaseExportRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Stream<Case> streamForExport(CaseSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Case> query = cb.createQuery(Case.class);
+        Root<Case> root = query.from(Case.class);
+        query.select(root)
+            .where(CaseSpecifications.matching(criteria, null, null).toPredicate(root, query, cb))
+            .orderBy(QueryUtils.toOrders(CaseSpecifications.KEYSET_ORDER, root, cb));
+        return entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .setHint(HibernateHints.HINT_CACHEABLE, false)
+            .getResultStream();
+    }
+}
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import uk.gov.hmcts.reform.dev.models.CaseHistoryEntry;
+
+@Repository
+public interface CaseHistoryRepository extends JpaRepository<CaseHistoryEntry, Long> {
+
+    /**
+     * Oldest first, keyset-paged on entry id; one range scan of the (caseId, id) index.
+     */
+    @Query("select e from CaseHistoryEntry e where e.caseId = :caseId and e.id > :after order by e.id")
+    List<CaseHistoryEntry> findHistory(@Param("caseId") Long caseId, @Param("after") long after, Pageable page);
+}
@@ -1,10 +1,207 @@
 package uk.gov.hmcts.reform.dev.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
 import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
 
 @Repository
-public interface CaseRepository extends JpaRepository<Case, Long> {
+public interface CaseRepository extends JpaRepository<Case, Long>, JpaSpecificationExecutor<Case>,
+    CaseExportRepository {
+
+    String SELECT_SUMMARY = "select new uk.gov.hmcts.reform.dev.models.CaseSummary("
+        + "c.id, c.caseId, c.title, c.status, c.dueDateTime, c.createdDate) from Case c";
+
+    String SELECT_BEFORE_CHANGE = "select id, title, description, status, case_id as caseId,"
+        + " due_date_time as dueDateTime, created_date as createdDate, updated_date as updatedDate, version"
+        + " from old table (";
+
+    @Query("select c.caseId from Case c where c.caseId in :caseIds")
+    List<String> findExistingCaseIds(@Param("caseIds") Collection<String> caseIds);
+
+    @Query("select c.status as status, count(c) as count from Case c group by c.status")
+    List<StatusCount> countByStatus();
+
+    /**
+     * Sets the status in one UPDATE and returns the row as it was before, or nothing when no row matched. The row is
+     * read from H2's {@code OLD TABLE} of the update itself, so neither the previous status nor the rest of the case
+     * needs another round trip.
+     */
+    @Query(value = SELECT_BEFORE_CHANGE + "update cases set status = :status, updated_date = :updatedDate,"
+        + " version = version + 1 where id = :id)", nativeQuery = true)
+    Optional<CaseBeforeChange> updateStatus(@Param("id") Long id,
+                                            @Param("status") String status,
+                                            @Param("updatedDate") LocalDateTime updatedDate);
+
+    /**
+     * As {@link #updateStatus}, but only changes the row when it is still at {@code version}. A row at another
+     * version is still returned, unchanged, so a conflict and a missing case are told apart by the same statement.
+     */
+    @Query(value = SELECT_BEFORE_CHANGE + "update cases set"
+        + " status = case when version = :version then :status else status end,"
+        + " updated_date = case when version = :version then :updatedDate else updated_date end,"
+        + " version = case when version = :version then version + 1 else version end"
+        + " where id = :id)", nativeQuery = true)
+    Optional<CaseBeforeChange> updateStatusIfVersion(@Param("id") Long id,
+                                                     @Param("status") String status,
+                                                     @Param("version") Long version,
+                                                     @Param("updatedDate") LocalDateTime updatedDate);
+
+    /**
+     * Deletes the case in one DELETE and returns the row it removed, or nothing when there was none. Of two
+     * concurrent deletes of one case only the first gets the row back.
+     */
+    @Query(value = SELECT_BEFORE_CHANGE + "delete from cases where id = :id)", nativeQuery = true)
+    Optional<CaseBeforeChange> deleteReturningRow(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Case c set c.status = :toStatus, c.updatedDate = :updatedDate, c.version = c.version + 1"
+        + " where c.id in :ids and c.status = :fromStatus")
+    int transitionStatus(@Param("ids") Collection<Long> ids,
+                         @Param("fromStatus") String fromStatus,
+                         @Param("toStatus") String toStatus,
+                         @Param("updatedDate") LocalDateTime updatedDate);
+
+    /**
+     * Locks the returned rows, so a following {@link #transitionStatus} is guaranteed to move all of them.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c.id from Case c where c.status = :status and c.dueDateTime < :dueBefore"
+        + " order by c.dueDateTime asc, c.id asc")
+    List<Long> findIdsDueBefore(@Param("status") String status,
+                                @Param("dueBefore") LocalDateTime dueBefore,
+                                Pageable pageable);
+
+    /**
+     * Ids of cases in {@code status} last updated before {@code updatedBefore}, oldest first, read through the
+     * (status, updatedDate) index. Locks the returned rows so none can change before they are archived; the text
+     * columns are not read while the locks are held.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c.id from Case c where c.status = :status and c.updatedDate < :updatedBefore"
+        + " order by c.updatedDate asc, c.id asc")
+    List<Long> findIdsForArchive(@Param("status") String status,
+                                 @Param("updatedBefore") LocalDateTime updatedBefore,
+                                 Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("insert into ArchivedCase (id, title, description, status, caseId, dueDateTime, createdDate,"
+        + " updatedDate, version, archivedDate)"
+        + " select c.id, c.title, c.description, c.status, c.caseId, c.dueDateTime, c.createdDate,"
+        + " c.updatedDate, c.version, :archivedDate from Case c where c.id in :ids")
+    int copyToArchive(@Param("ids") Collection<Long> ids, @Param("archivedDate") LocalDateTime archivedDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Case c where c.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * An archived case as a detached {@link Case}; archived cases cannot be changed.
+     */
+    @Query("select new uk.gov.hmcts.reform.dev.models.Case(a.id, a.title, a.description, a.status, a.caseId,"
+        + " a.dueDateTime, a.createdDate, a.updatedDate, a.version) from ArchivedCase a where a.id = :id")
+    Optional<Case> findArchivedById(@Param("id") Long id);
+
+    @Query("select new uk.gov.hmcts.reform.dev.models.Case(a.id, a.title, a.description, a.status, a.caseId,"
+        + " a.dueDateTime, a.createdDate, a.updatedDate, a.version) from ArchivedCase a where a.id in :ids")
+    List<Case> findArchivedAllById(@Param("ids") Collection<Long> ids);
+
+    @Query("select c from Case c order by c.createdDate asc, c.id asc")
+    List<Case> findFirstPageByCreatedDate(Pageable pageable);
+
+    @Query("select c from Case c"
+        + " where c.createdDate >= :createdDate and (c.createdDate > :createdDate or c.id > :id)"
+        + " order by c.createdDate asc, c.id asc")
+    List<Case> findPageByCreatedDateAfter(@Param("createdDate") LocalDateTime createdDate,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    /**
+     * Cases with a due date only; those without one follow through {@link #findPageWithoutDueDateTimeAfter}, so
+     * each query stays a single range scan on its index.
+     */
+    @Query("select c from Case c where c.dueDateTime is not null order by c.dueDateTime asc, c.id asc")
+    List<Case> findFirstPageByDueDateTime(Pageable pageable);
+
+    @Query("select c from Case c"
+        + " where c.dueDateTime >= :dueDateTime and (c.dueDateTime > :dueDateTime or c.id > :id)"
+        + " order by c.dueDateTime asc, c.id asc")
+    List<Case> findPageByDueDateTimeAfter(@Param("dueDateTime") LocalDateTime dueDateTime,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    @Query("select c from Case c where c.dueDateTime is null and c.id > :id order by c.id asc")
+    List<Case> findPageWithoutDueDateTimeAfter(@Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + " order by c.createdDate asc, c.id asc")
+    List<CaseSummary> findFirstSummaryPageByCreatedDate(Pageable pageable);
+
+    @Query(SELECT_SUMMARY
+        + " where c.createdDate >= :createdDate and (c.createdDate > :createdDate or c.id > :id)"
+        + " order by c.createdDate asc, c.id asc")
+    List<CaseSummary> findSummaryPageByCreatedDateAfter(@Param("createdDate") LocalDateTime createdDate,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
+
+    @Query(SELECT_SUMMARY + " where c.dueDateTime is not null order by c.dueDateTime asc, c.id asc")
+    List<CaseSummary> findFirstSummaryPageByDueDateTime(Pageable pageable);
+
+    @Query(SELECT_SUMMARY
+        + " where c.dueDateTime >= :dueDateTime and (c.dueDateTime > :dueDateTime or c.id > :id)"
+        + " order by c.dueDateTime asc, c.id asc")
+    List<CaseSummary> findSummaryPageByDueDateTimeAfter(@Param("dueDateTime") LocalDateTime dueDateTime,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
+
+    @Query(SELECT_SUMMARY + " where c.dueDateTime is null and c.id > :id order by c.id asc")
+    List<CaseSummary> findSummaryPageWithoutDueDateTimeAfter(@Param("id") Long id, Pageable pageable);
+
+    interface StatusCount {
+
+        String getStatus();
+
+        long getCount();
+    }
+
+    /**
+     * A case row as it was before one of the status updates or the delete above changed it.
+     */
+    interface CaseBeforeChange {
+
+        Long getId();
+
+        String getTitle();
+
+        String getDescription();
+
+        String getStatus();
+
+        String getCaseId();
+
+        LocalDateTime getDueDateTime();
+
+        LocalDateTime getCreatedDate();
+
+        LocalDateTime getUpdatedDate();
+
+        Long getVersion();
+
+        default Case toCase() {
+            return new Case(getId(), getTitle(), getDescription(), getStatus(), getCaseId(), getDueDateTime(),
+                            getCreatedDate(), getUpdatedDate(), getVersion());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseSearchCriteria;
+
+/**
+ * Builds search queries that only contain predicates for the filters actually supplied, so the database can pick
+ * the matching index instead of evaluating "param is null or ..." on every row.
+ */
+public final class CaseSpecifications {
+
+    public static final Sort KEYSET_ORDER = Sort.by(Sort.Order.asc("createdDate"), Sort.Order.asc("id"));
+
+    private CaseSpecifications() {
+    }
+
+    public static Specification<Case> matching(CaseSearchCriteria criteria, LocalDateTime afterCreatedDate,
+                                               Long afterId) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            Path<LocalDateTime> createdDate = root.get("createdDate");
+            Path<LocalDateTime> dueDateTime = root.get("dueDateTime");
+
+            if (criteria.getCaseId() != null) {
+                predicates.add(cb.equal(root.get("caseId"), criteria.getCaseId()));
+            }
+            if (criteria.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), criteria.getStatus()));
+            }
+            if (criteria.getDueFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(dueDateTime, criteria.getDueFrom()));
+            }
+            if (criteria.getDueTo() != null) {
+                predicates.add(cb.lessThan(dueDateTime, criteria.getDueTo()));
+            }
+            if (criteria.getCreatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(createdDate, criteria.getCreatedFrom()));
+            }
+            if (criteria.getCreatedTo() != null) {
+                predicates.add(cb.lessThan(createdDate, criteria.getCreatedTo()));
+            }
+            if (afterCreatedDate != null) {
+                Path<Long> id = root.get("id");
+                predicates.add(cb.greaterThanOrEqualTo(createdDate, afterCreatedDate));
+                predicates.add(cb.or(cb.greaterThan(createdDate, afterCreatedDate), cb.greaterThan(id, afterId)));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
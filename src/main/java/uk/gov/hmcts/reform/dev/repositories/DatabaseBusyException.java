@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class DatabaseBusyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary. The route is decided when a
+ * connection is requested, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction manager asks for its
+ * connection before the transaction is marked read-only, and the proxy only fetches it at the first statement.
+ *
+ * <p>When the replica is marked unusable (see {@link ReplicaLagMonitor}), or a replica connection cannot be opened,
+ * reads go to the primary instead.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private volatile boolean replicaUsable = true;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        this.primary = primary;
+        this.replica = replica;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        return replicaUsable && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Route.PRIMARY) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            log.warn("Replica connection failed, reading from the primary", e);
+            return primary.getConnection();
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public void setReplicaUsable(boolean replicaUsable) {
+        this.replicaUsable = replicaUsable;
+    }
+}
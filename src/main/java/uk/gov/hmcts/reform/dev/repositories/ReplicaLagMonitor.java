@@ -0,0 +1,106 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.sql.DataSource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Checks the replica every {@code cases.read-replica.lag-check-interval} and stops routing reads to it while it
+ * is unreachable or further behind the primary than {@code cases.read-replica.max-lag}.
+ *
+ * <p>Lag is read with {@code cases.read-replica.lag-query}, which must return the replica's delay in seconds, for
+ * example {@code select extract(epoch from now() - pg_last_xact_replay_timestamp())} on PostgreSQL. Without one
+ * only reachability is checked.
+ *
+ * <p>Checks use their own unpooled connection to the replica rather than the read pool, so they neither wait behind
+ * reads for a connection nor hold one up. Each check gets {@code cases.read-replica.check-timeout}. A replica that
+ * does not answer in time, such as a host that drops packets, counts as unreachable.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String CONNECTIVITY_QUERY = "select 0";
+
+    private final DataSource replica;
+    private final ReadReplicaRoutingDataSource routing;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration checkTimeout;
+    private final ExecutorService checks = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile double lagSeconds;
+
+    public ReplicaLagMonitor(DataSource replica, ReadReplicaRoutingDataSource routing, MeterRegistry meterRegistry,
+                             String lagQuery, Duration maxLag, Duration checkTimeout) {
+        this.replica = replica;
+        this.routing = routing;
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? CONNECTIVITY_QUERY : lagQuery;
+        this.maxLag = maxLag;
+        this.checkTimeout = checkTimeout;
+        meterRegistry.gauge("cases.read-replica.lag", this, monitor -> monitor.lagSeconds);
+        meterRegistry.gauge("cases.read-replica.usable", routing, source -> source.isReplicaUsable() ? 1 : 0);
+    }
+
+    @Scheduled(fixedDelayString = "${cases.read-replica.lag-check-interval:5s}")
+    public void check() {
+        boolean usable;
+        Future<Double> lag = checks.submit(this::readLagSeconds);
+        try {
+            lagSeconds = lag.get(checkTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            usable = lagSeconds * 1000 <= maxLag.toMillis();
+            if (!usable && routing.isReplicaUsable()) {
+                log.warn("Replica is {}s behind, reading from the primary", lagSeconds);
+            }
+        } catch (ExecutionException e) {
+            usable = false;
+            if (routing.isReplicaUsable()) {
+                log.warn("Replica check failed, reading from the primary", e.getCause());
+            }
+        } catch (TimeoutException e) {
+            lag.cancel(true);
+            usable = false;
+            if (routing.isReplicaUsable()) {
+                log.warn("Replica did not answer within {}, reading from the primary", checkTimeout);
+            }
+        } catch (InterruptedException e) {
+            lag.cancel(true);
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (usable && !routing.isReplicaUsable()) {
+            log.info("Replica has caught up, reading from it again");
+        }
+        routing.setReplicaUsable(usable);
+    }
+
+    /**
+     * Called by Spring as the bean's inferred destroy method.
+     */
+    public void close() {
+        checks.shutdownNow();
+    }
+
+    private double readLagSeconds() throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, checkTimeout.toSeconds()));
+            try (ResultSet result = statement.executeQuery(lagQuery)) {
+                // a replica that has replayed everything can report no lag at all
+                return result.next() ? Math.max(0, result.getDouble(1)) : 0;
+            }
+        }
+    }
+}
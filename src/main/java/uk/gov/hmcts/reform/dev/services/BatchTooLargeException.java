@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class BatchTooLargeException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public BatchTooLargeException(int size, int maxSize) {
+        super("Batch of " + size + " items exceeds the limit of " + maxSize);
+    }
+}
@@ -0,0 +1,122 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A bounded in-memory queue with a single writer thread that hands whatever has built up since its last write to a
+ * {@link Handler} as one batch. Offering never waits: a full queue turns the item away.
+ *
+ * <p>{@link #stop} stops the writer once the queue is empty, waiting up to the drain timeout before giving up on
+ * what is left. Anything still queued when the process dies is lost.
+ */
+@Slf4j
+final class BatchWriter<T> {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(200);
+
+    private final String name;
+    private final BlockingQueue<T> queue;
+    private final int batchSize;
+    private final Duration drainTimeout;
+    private final Handler<T> handler;
+    private volatile boolean running = true;
+    private volatile Thread writer;
+
+    /**
+     * @param name names the writer thread and, in the shutdown log, what is queued
+     */
+    BatchWriter(String name, int capacity, int batchSize, Duration drainTimeout, Handler<T> handler) {
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.drainTimeout = drainTimeout;
+        this.handler = handler;
+    }
+
+    void start() {
+        writer = Thread.ofPlatform().daemon().name(name + "-writer").start(this::run);
+    }
+
+    /**
+     * Queues an item, or returns false when the queue is full.
+     */
+    boolean offer(T item) {
+        return queue.offer(item);
+    }
+
+    int size() {
+        return queue.size();
+    }
+
+    /**
+     * False once {@link #stop} has been called.
+     */
+    boolean isRunning() {
+        return running;
+    }
+
+    void stop() {
+        running = false;
+        Thread thread = writer;
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join(drainTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.error("Stopped {} with {} items not written", name, queue.size());
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        try {
+            while (running || !queue.isEmpty()) {
+                writeNextBatch(POLL_INTERVAL);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits up to {@code wait} for an item, then writes it along with everything queued behind it, up to the batch
+     * size. Returns the number of items taken off the queue.
+     */
+    int writeNextBatch(Duration wait) throws InterruptedException {
+        handler.beforePoll();
+        T first = queue.poll(wait.toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return 0;
+        }
+        List<T> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        handler.write(batch);
+        return batch.size();
+    }
+
+    interface Handler<T> {
+
+        /**
+         * Writes a batch taken off the queue. The items are not offered again, whatever happens to them here.
+         */
+        void write(List<T> batch) throws InterruptedException;
+
+        /**
+         * Runs on the writer thread before each wait for the next batch, whether or not one comes.
+         */
+        default void beforePoll() {
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Periodically moves closed cases that have not changed for {@code cases.archiver.age} into {@code cases_archive},
+ * keeping the hot table and its indexes to live cases. Each chunk is its own short transaction
+ * ({@link CaseService#archive}); a run stops after {@code max-chunks-per-run} chunks and the next run carries on.
+ * Archived cases can still be read by id.
+ */
+@Component
+@ConditionalOnProperty(name = "cases.archiver.enabled", havingValue = "true", matchIfMissing = true)
+public class CaseArchiver {
+
+    private static final ChunkedJob.Meters METERS = new ChunkedJob.Meters(
+        "cases.archive.run", "Duration of one archiver run",
+        "cases.archived", "Cases moved to the archive, by status");
+
+    private final ChunkedJob job;
+    private final Duration age;
+
+    public CaseArchiver(CaseService caseService,
+                        MeterRegistry meterRegistry,
+                        @Value("${cases.archiver.closed-statuses:COMPLETED}") String[] closedStatuses,
+                        @Value("${cases.archiver.age:90d}") Duration age,
+                        @Value("${cases.archiver.chunk-size:500}") int chunkSize,
+                        @Value("${cases.archiver.max-chunks-per-run:100}") int maxChunksPerRun) {
+        this.job = new ChunkedJob(meterRegistry, METERS, closedStatuses, chunkSize, maxChunksPerRun,
+                                  caseService::archive);
+        this.age = age;
+    }
+
+    @Scheduled(fixedDelayString = "${cases.archiver.interval:1h}",
+        initialDelayString = "${cases.archiver.initial-delay:5m}")
+    public void run() {
+        archive();
+    }
+
+    /**
+     * Returns the number of cases archived.
+     */
+    public int archive() {
+        return job.run(LocalDateTime.now().minus(age));
+    }
+}
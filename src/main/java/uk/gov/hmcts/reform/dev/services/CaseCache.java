@@ -0,0 +1,123 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import uk.gov.hmcts.reform.dev.models.Case;
+
+/**
+ * The {@code cases} cache, written so that a read which loaded a case before a change committed cannot put its
+ * older copy back over the change:
+ * <ul>
+ *     <li>a case is only cached when no newer version of it is there already;</li>
+ *     <li>every change also leaves a marker for {@code invalidation-marker-ttl}, and a read that started before the
+ *     marker cannot cache what it loaded. This is what keeps a deleted case from being put back.</li>
+ * </ul>
+ * Changes reach the cache only once their transaction commits, so a rolled-back write never does.
+ */
+@Component
+public class CaseCache {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Cache cache;
+    // case id to System.nanoTime() of its last committed change
+    private final ConcurrentMap<Long, Long> changedAt;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    @Autowired
+    public CaseCache(CacheManager cacheManager,
+                     @Value("${cases.cache.invalidation-marker-ttl:1m}") Duration markerTtl) {
+        this.cache = cacheManager.getCache(CaseService.CASES_CACHE);
+        this.changedAt = Caffeine.newBuilder().expireAfterWrite(markerTtl).<Long, Long>build().asMap();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    public Case get(Long id) {
+        return cache.get(id, Case.class);
+    }
+
+    /**
+     * Marks the start of a database read whose result will be passed to {@link #putLoaded}.
+     */
+    public long loadStarted() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Caches a case read from the database unless it changed after {@code loadStarted} or a copy at least as new
+     * is already cached.
+     */
+    public void putLoaded(Case loaded, long loadStarted) {
+        synchronized (lockFor(loaded.getId())) {
+            Long changed = changedAt.get(loaded.getId());
+            if (changed != null && changed - loadStarted >= 0) {
+                return;
+            }
+            Case cached = get(loaded.getId());
+            if (cached == null || versionOf(cached) < versionOf(loaded)) {
+                cache.put(loaded.getId(), loaded);
+            }
+        }
+    }
+
+    /**
+     * Caches the result of a write once the current transaction commits, unless a newer copy got there first.
+     */
+    public void putChanged(Case changed) {
+        afterCommit(() -> {
+            synchronized (lockFor(changed.getId())) {
+                changedAt.put(changed.getId(), System.nanoTime());
+                Case cached = get(changed.getId());
+                if (cached == null || versionOf(cached) <= versionOf(changed)) {
+                    cache.put(changed.getId(), changed);
+                }
+            }
+        });
+    }
+
+    /**
+     * Drops the case once the current transaction commits and keeps reads already running from caching it again.
+     */
+    public void invalidate(Long id) {
+        afterCommit(() -> {
+            synchronized (lockFor(id)) {
+                changedAt.put(id, System.nanoTime());
+                cache.evict(id);
+            }
+        });
+    }
+
+    private Object lockFor(Long id) {
+        return locks[Math.floorMod(id.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static long versionOf(Case caseEntity) {
+        return caseEntity.getVersion() == null ? -1 : caseEntity.getVersion();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,201 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseFeedEvent;
+
+/**
+ * Pushes committed case changes to Server-Sent Events subscribers.
+ *
+ * <p>Every change gets the next sequence number and is kept in a ring buffer of the last
+ * {@code cases.change-feed.retained} events, so a reconnecting client can resume from its {@code Last-Event-ID}.
+ * Sequence numbers start from the start-up time in microseconds, so they keep increasing across restarts. A client
+ * whose position is no longer retained gets a {@code reset} event and should re-read the cases it needs.
+ *
+ * <p>Each subscriber has a bounded queue drained by its own virtual thread. Publishing never blocks the committing
+ * thread or writes to a client: a subscriber whose queue is full is flagged and its sender thread closes the stream.
+ * The client resumes from its last event when it reconnects.
+ */
+@Slf4j
+@Service
+public class CaseChangeFeed {
+
+    static final String RESET_EVENT = "reset";
+
+    private final CaseFeedEvent[] ring;
+    private final int subscriberBuffer;
+    private final Duration heartbeat;
+    private final Duration timeout;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private long lastSequence;
+    private int size;
+
+    public CaseChangeFeed(@Value("${cases.change-feed.retained:10000}") int retained,
+                          @Value("${cases.change-feed.subscriber-buffer:1000}") int subscriberBuffer,
+                          @Value("${cases.change-feed.heartbeat:15s}") Duration heartbeat,
+                          @Value("${cases.change-feed.timeout:30m}") Duration timeout) {
+        this.ring = new CaseFeedEvent[retained];
+        this.subscriberBuffer = subscriberBuffer;
+        this.heartbeat = heartbeat;
+        this.timeout = timeout;
+        this.lastSequence = System.currentTimeMillis() * 1000;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCaseChanged(CaseChangedEvent event) {
+        Case current = event.current();
+        CaseFeedEvent.Type type = switch (event.change()) {
+            case CREATED -> CaseFeedEvent.Type.CREATED;
+            case STATUS_CHANGED -> CaseFeedEvent.Type.STATUS_CHANGED;
+            case DELETED -> CaseFeedEvent.Type.DELETED;
+        };
+        String previousStatus = type == CaseFeedEvent.Type.STATUS_CHANGED ? event.previousStatus() : null;
+        publish(type, current.getId(), current.getStatus(), previousStatus, current.getVersion());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusesChanged(CaseStatusesChangedEvent event) {
+        for (Long id : event.ids()) {
+            publish(CaseFeedEvent.Type.STATUS_CHANGED, id, event.toStatus(), event.fromStatus(), null);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCasesArchived(CasesArchivedEvent event) {
+        for (Long id : event.ids()) {
+            publish(CaseFeedEvent.Type.ARCHIVED, id, event.status(), null, null);
+        }
+    }
+
+    /**
+     * Opens a stream that first replays retained events after {@code lastEventId}, when given, then follows live
+     * changes.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber;
+        synchronized (this) {
+            List<CaseFeedEvent> replay = lastEventId == null ? List.of() : retainedAfter(lastEventId);
+            boolean reset = replay == null;
+            subscriber = new Subscriber(emitter, subscriberBuffer + (reset ? 0 : replay.size()), reset);
+            if (!reset) {
+                subscriber.queue.addAll(replay);
+            }
+            subscribers.add(subscriber);
+        }
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscriber.sender = Thread.ofVirtual().name("case-feed-subscriber").start(subscriber::run);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private synchronized void publish(CaseFeedEvent.Type type, Long id, String status, String previousStatus,
+                                      Long version) {
+        CaseFeedEvent feedEvent = new CaseFeedEvent(++lastSequence, type, id, status, previousStatus, version);
+        ring[(int) (feedEvent.sequence() % ring.length)] = feedEvent;
+        size = Math.min(size + 1, ring.length);
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.queue.offer(feedEvent)) {
+                log.warn("Disconnecting slow change feed subscriber after {} undelivered events",
+                         subscriber.queue.size());
+                // only flags it; completing the emitter writes to the client, which is the sender thread's job
+                subscriber.disconnect();
+            }
+        }
+    }
+
+    /**
+     * Retained events after {@code sequence}, or {@code null} when some of them are no longer retained.
+     */
+    private List<CaseFeedEvent> retainedAfter(long sequence) {
+        long oldest = lastSequence - size + 1;
+        if (sequence > lastSequence || sequence < oldest - 1) {
+            return null;
+        }
+        List<CaseFeedEvent> events = new ArrayList<>((int) (lastSequence - sequence));
+        for (long next = sequence + 1; next <= lastSequence; next++) {
+            events.add(ring[(int) (next % ring.length)]);
+        }
+        return events;
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<CaseFeedEvent> queue;
+        private final boolean reset;
+        private volatile Thread sender;
+        private volatile boolean disconnected;
+
+        Subscriber(SseEmitter emitter, int capacity, boolean reset) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.reset = reset;
+        }
+
+        void run() {
+            try {
+                if (reset) {
+                    emitter.send(SseEmitter.event().name(RESET_EVENT).data(""));
+                }
+                while (!disconnected && !Thread.currentThread().isInterrupted()) {
+                    CaseFeedEvent next = queue.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        // keeps proxies from closing an idle stream and finds clients that have gone away
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                         .id(Long.toString(next.sequence()))
+                                         .name(next.type().name())
+                                         .data(next));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                if (disconnected) {
+                    emitter.complete();
+                }
+                close();
+            }
+        }
+
+        /**
+         * Stops delivery to a subscriber that fell behind. Its sender thread completes the stream when it wakes.
+         */
+        void disconnect() {
+            disconnected = true;
+            close();
+        }
+
+        void close() {
+            subscribers.remove(this);
+            Thread thread = sender;
+            if (thread != null && thread != Thread.currentThread()) {
+                thread.interrupt();
+            }
+        }
+    }
+}
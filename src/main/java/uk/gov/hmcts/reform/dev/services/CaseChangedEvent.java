@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import uk.gov.hmcts.reform.dev.models.Case;
+
+/**
+ * Published by {@link CaseService} for every case it writes. Listeners that keep derived state (indexes, counters)
+ * should use {@code @TransactionalEventListener} so they only see changes that committed.
+ */
+public record CaseChangedEvent(Change change, Case current, String previousStatus) {
+
+    public enum Change {
+        CREATED,
+        STATUS_CHANGED,
+        DELETED
+    }
+
+    public static CaseChangedEvent created(Case caseEntity) {
+        return new CaseChangedEvent(Change.CREATED, caseEntity, null);
+    }
+
+    public static CaseChangedEvent statusChanged(Case caseEntity, String previousStatus) {
+        return new CaseChangedEvent(Change.STATUS_CHANGED, caseEntity, previousStatus);
+    }
+
+    public static CaseChangedEvent deleted(Case caseEntity) {
+        return new CaseChangedEvent(Change.DELETED, caseEntity, caseEntity.getStatus());
+    }
+}
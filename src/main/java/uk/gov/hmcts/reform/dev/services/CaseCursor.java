@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+
+import uk.gov.hmcts.reform.dev.models.CaseSort;
+
+/**
+ * Keyset position of the last row returned on a page: the value of the sort column plus the id as tie-breaker.
+ * Encoded as URL-safe base64 so clients treat it as opaque.
+ */
+public record CaseCursor(CaseSort sort, LocalDateTime key, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + (key == null ? "" : key.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Optional<CaseCursor> decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                return Optional.empty();
+            }
+            CaseSort sort = CaseSort.valueOf(parts[0]);
+            LocalDateTime key = parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]);
+            return Optional.of(new CaseCursor(sort, key, Long.parseLong(parts[2])));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
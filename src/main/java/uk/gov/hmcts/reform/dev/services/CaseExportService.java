@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.persistence.EntityManager;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseSearchCriteria;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+
+/**
+ * Writes cases as newline-delimited JSON straight from a database cursor. Each entity is detached once written,
+ * so memory stays flat however many rows match.
+ */
+@Service
+public class CaseExportService {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final CaseRepository caseRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public CaseExportService(CaseRepository caseRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.caseRepository = caseRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public long exportCases(String status, LocalDateTime createdFrom, LocalDateTime createdTo,
+                            OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long written = 0;
+        try (Stream<Case> cases = caseRepository.streamForExport(
+                 new CaseSearchCriteria(status, null, null, null, createdFrom, createdTo));
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                 .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.setRootValueSeparator(null);
+            Iterator<Case> iterator = cases.iterator();
+            while (iterator.hasNext()) {
+                Case caseEntity = iterator.next();
+                writer.writeValue(generator, caseEntity);
+                generator.writeRaw('\n');
+                entityManager.detach(caseEntity);
+                if (++written % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return written;
+    }
+}
@@ -0,0 +1,174 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseHistoryEntry;
+import uk.gov.hmcts.reform.dev.models.CasePage;
+import uk.gov.hmcts.reform.dev.repositories.CaseHistoryRepository;
+
+/**
+ * Keeps an append-only history of every committed case change in {@code case_events}.
+ *
+ * <p>Entries are recorded after the change commits and queued in a {@link BatchWriter}, which inserts whatever has
+ * built up as one batch, so writes to cases never wait for the history insert. The cost is that history trails
+ * the change by one batch, and entries still queued are lost if the process dies. If the queue is full the entry is
+ * dropped at once and counted in {@code cases.history.dropped}; the committing thread never waits for room.
+ *
+ * <p>A batch that fails {@code cases.history.max-attempts} times is inserted one entry at a time, so one bad entry
+ * cannot hold up the queue. Entries that still fail are logged in full and counted in {@code cases.history.failed}.
+ */
+@Slf4j
+@Service
+public class CaseHistoryService {
+
+    private final CaseHistoryRepository caseHistoryRepository;
+    private final BatchWriter<CaseHistoryEntry> writer;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final int maxPageSize;
+    private final Counter dropped;
+    private final Counter failed;
+
+    public CaseHistoryService(CaseHistoryRepository caseHistoryRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${cases.history.queue-capacity:10000}") int queueCapacity,
+                              @Value("${cases.history.batch-size:500}") int batchSize,
+                              @Value("${cases.history.max-attempts:3}") int maxAttempts,
+                              @Value("${cases.history.retry-delay:1s}") Duration retryDelay,
+                              @Value("${cases.history.drain-timeout:20s}") Duration drainTimeout,
+                              @Value("${cases.pagination.max-page-size:200}") int maxPageSize) {
+        this.caseHistoryRepository = caseHistoryRepository;
+        this.writer = new BatchWriter<>("case-history", queueCapacity, batchSize, drainTimeout, this::writeBatch);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelay = retryDelay;
+        this.maxPageSize = maxPageSize;
+        this.dropped = Counter.builder("cases.history.dropped")
+            .description("History entries lost because the write queue was full")
+            .register(meterRegistry);
+        this.failed = Counter.builder("cases.history.failed")
+            .description("History entries lost because they could not be inserted, even on their own")
+            .register(meterRegistry);
+        meterRegistry.gauge("cases.history.queue.size", writer, BatchWriter::size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        writer.start();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCaseChanged(CaseChangedEvent event) {
+        Case current = event.current();
+        CaseHistoryEntry.Type type = switch (event.change()) {
+            case CREATED -> CaseHistoryEntry.Type.CREATED;
+            case STATUS_CHANGED -> CaseHistoryEntry.Type.STATUS_CHANGED;
+            case DELETED -> CaseHistoryEntry.Type.DELETED;
+        };
+        String previousStatus = type == CaseHistoryEntry.Type.STATUS_CHANGED ? event.previousStatus() : null;
+        record(CaseHistoryEntry.of(current.getId(), type, current.getStatus(), previousStatus, current.getVersion(),
+                                   LocalDateTime.now()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusesChanged(CaseStatusesChangedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long id : event.ids()) {
+            record(CaseHistoryEntry.of(id, CaseHistoryEntry.Type.STATUS_CHANGED, event.toStatus(),
+                                       event.fromStatus(), null, now));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCasesArchived(CasesArchivedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long id : event.ids()) {
+            record(CaseHistoryEntry.of(id, CaseHistoryEntry.Type.ARCHIVED, event.status(), null, null, now));
+        }
+    }
+
+    /**
+     * Written history of a case, oldest first, starting after the entry id in {@code after} when given.
+     */
+    @Transactional(readOnly = true)
+    public CasePage<CaseHistoryEntry> getHistory(Long caseId, Long after, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        List<CaseHistoryEntry> rows = caseHistoryRepository.findHistory(caseId, after == null ? 0 : after,
+                                                                        PageRequest.ofSize(pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return new CasePage<>(rows, null);
+        }
+        List<CaseHistoryEntry> items = rows.subList(0, pageSize);
+        return new CasePage<>(items, items.get(pageSize - 1).getId().toString());
+    }
+
+    @PreDestroy
+    public void stop() {
+        writer.stop();
+    }
+
+    int writeNextBatch(Duration wait) throws InterruptedException {
+        return writer.writeNextBatch(wait);
+    }
+
+    private void record(CaseHistoryEntry entry) {
+        if (!writer.offer(entry)) {
+            dropped.increment();
+            log.error("History queue full, dropped {} of case {}", entry.getType(), entry.getCaseId());
+        }
+    }
+
+    /**
+     * Inserts a batch, retrying a failed insert up to the attempt limit, or not at all once the service is stopping,
+     * and then inserting each entry on its own.
+     */
+    private void writeBatch(List<CaseHistoryEntry> batch) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                caseHistoryRepository.saveAll(batch);
+                return;
+            } catch (RuntimeException e) {
+                // the failed insert already gave them ids; fresh copies are inserted rather than merged
+                batch.replaceAll(CaseHistoryService::unsaved);
+                if (attempt >= maxAttempts || !writer.isRunning()) {
+                    log.warn("Writing {} history entries failed {} times, writing them one at a time",
+                             batch.size(), attempt, e);
+                    batch.forEach(this::writeAlone);
+                    return;
+                }
+                log.warn("Writing {} history entries failed, retrying", batch.size(), e);
+                Thread.sleep(retryDelay.toMillis());
+            }
+        }
+    }
+
+    private void writeAlone(CaseHistoryEntry entry) {
+        try {
+            caseHistoryRepository.save(entry);
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.error("Dropped history entry that could not be written: {} of case {} from {} to {} at version {}"
+                          + " recorded {}", entry.getType(), entry.getCaseId(), entry.getPreviousStatus(),
+                      entry.getStatus(), entry.getVersion(), entry.getRecordedAt(), e);
+        }
+    }
+
+    private static CaseHistoryEntry unsaved(CaseHistoryEntry entry) {
+        return CaseHistoryEntry.of(entry.getCaseId(), entry.getType(), entry.getStatus(), entry.getPreviousStatus(),
+                                   entry.getVersion(), entry.getRecordedAt());
+    }
+}
@@ -0,0 +1,206 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.dev.models.BatchItemResult;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseIngestStatus;
+
+/**
+ * Write-behind queue for case creation. Accepted cases wait in a {@link BatchWriter} that inserts whatever has built
+ * up since its last commit as one {@link CaseService#createCases} batch, so a burst of requests costs one transaction
+ * rather than one each.
+ *
+ * <p>Accepting a case is not durable: anything still queued is lost if the process dies. A graceful shutdown stops
+ * accepting new cases and waits up to {@code cases.async-ingest.drain-timeout} for the queue to be written. Tokens
+ * are only known to the instance that issued them and are forgotten {@code cases.async-ingest.token-retention}
+ * after their case is written.
+ *
+ * <p>When the database cannot be reached the writer keeps the cases queued and tries again with a growing backoff,
+ * starting at {@code cases.async-ingest.retry-backoff}. Only a case rejected for something about itself, such as a
+ * duplicate caseId, is marked failed.
+ */
+@Slf4j
+@Service
+public class CaseIngestQueue {
+
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(10);
+
+    private final CaseService caseService;
+    private final BatchWriter<Pending> writer;
+    private final Map<String, CaseIngestStatus> statuses = new ConcurrentHashMap<>();
+    // written tokens in completion order; only touched by the writer thread
+    private final Queue<Expiry> expiries = new ArrayDeque<>();
+    private final Duration tokenRetention;
+    private final Duration retryBackoff;
+    private final Counter rejected;
+
+    public CaseIngestQueue(CaseService caseService,
+                           MeterRegistry meterRegistry,
+                           @Value("${cases.async-ingest.queue-capacity:10000}") int queueCapacity,
+                           @Value("${cases.async-ingest.batch-size:500}") int batchSize,
+                           @Value("${cases.batch.max-size:1000}") int maxBatchSize,
+                           @Value("${cases.async-ingest.token-retention:10m}") Duration tokenRetention,
+                           @Value("${cases.async-ingest.drain-timeout:20s}") Duration drainTimeout,
+                           @Value("${cases.async-ingest.retry-backoff:200ms}") Duration retryBackoff) {
+        this.caseService = caseService;
+        this.writer = new BatchWriter<>("case-ingest", queueCapacity, Math.min(batchSize, maxBatchSize), drainTimeout,
+                                        new PendingWriter());
+        this.tokenRetention = tokenRetention;
+        this.retryBackoff = retryBackoff;
+        this.rejected = Counter.builder("cases.ingest.rejected")
+            .description("Cases turned away because the write-behind queue was full")
+            .register(meterRegistry);
+        meterRegistry.gauge("cases.ingest.queue.size", writer, BatchWriter::size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        writer.start();
+    }
+
+    /**
+     * Queues a case for insertion, or returns empty when the queue is full or shutting down.
+     */
+    public Optional<CaseIngestStatus> submit(Case caseEntity) {
+        if (!writer.isRunning()) {
+            rejected.increment();
+            return Optional.empty();
+        }
+        String token = UUID.randomUUID().toString();
+        CaseIngestStatus pending = CaseIngestStatus.pending(token);
+        statuses.put(token, pending);
+        if (!writer.offer(new Pending(token, caseEntity))) {
+            statuses.remove(token);
+            rejected.increment();
+            return Optional.empty();
+        }
+        return Optional.of(pending);
+    }
+
+    public Optional<CaseIngestStatus> getStatus(String token) {
+        return Optional.ofNullable(statuses.get(token));
+    }
+
+    @PreDestroy
+    public void stop() {
+        writer.stop();
+    }
+
+    int writeNextBatch(Duration wait) throws InterruptedException {
+        return writer.writeNextBatch(wait);
+    }
+
+    private void writeBatch(List<Pending> batch) throws InterruptedException {
+        List<Case> cases = batch.stream().map(Pending::caseEntity).toList();
+        try {
+            List<BatchItemResult> results = retryingTransientFailures(() -> caseService.createCases(cases));
+            for (int i = 0; i < batch.size(); i++) {
+                complete(batch.get(i).token(), results.get(i));
+            }
+        } catch (RuntimeException e) {
+            // one bad row, such as a caseId taken since the batch was checked, rolls back the rest with it
+            log.warn("Writing {} queued cases failed, retrying them one at a time", batch.size(), e);
+            for (Pending pending : batch) {
+                writeAlone(pending);
+            }
+        }
+    }
+
+    private void writeAlone(Pending pending) throws InterruptedException {
+        try {
+            complete(pending.token(),
+                     retryingTransientFailures(() -> caseService.createCases(List.of(pending.caseEntity()))).get(0));
+        } catch (DataIntegrityViolationException e) {
+            finish(CaseIngestStatus.failed(pending.token(), "caseId already exists"));
+        } catch (RuntimeException e) {
+            log.error("Could not write queued case {}", pending.token(), e);
+            finish(CaseIngestStatus.failed(pending.token(), "case could not be saved"));
+        }
+    }
+
+    /**
+     * Runs {@code write} until it succeeds or fails for a reason other than the database being unavailable, backing
+     * off between attempts. Cases stay queued meanwhile, so a long outage fills the queue and new requests get 429.
+     */
+    private <T> T retryingTransientFailures(Supplier<T> write) throws InterruptedException {
+        long backoff = retryBackoff.toMillis();
+        while (true) {
+            try {
+                return write.get();
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    throw e;
+                }
+                log.warn("Database unavailable for queued cases, retrying in {} ms: {}", backoff, e.getMessage());
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_RETRY_BACKOFF.toMillis());
+            }
+        }
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof CannotCreateTransactionException
+            || e instanceof DataAccessResourceFailureException
+            || e instanceof TransientDataAccessException
+            || e instanceof RecoverableDataAccessException;
+    }
+
+    private void complete(String token, BatchItemResult result) {
+        finish(result.getOutcome() == BatchItemResult.Outcome.CREATED
+                   ? CaseIngestStatus.created(token, result.getId())
+                   : CaseIngestStatus.failed(token, result.getMessage()));
+    }
+
+    private void finish(CaseIngestStatus status) {
+        statuses.put(status.getToken(), status);
+        expiries.add(new Expiry(status.getToken(), System.nanoTime() + tokenRetention.toNanos()));
+    }
+
+    private void expireTokens(long now) {
+        while (!expiries.isEmpty() && expiries.peek().deadline() - now <= 0) {
+            statuses.remove(expiries.poll().token());
+        }
+    }
+
+    private class PendingWriter implements BatchWriter.Handler<Pending> {
+
+        @Override
+        public void write(List<Pending> batch) throws InterruptedException {
+            writeBatch(batch);
+        }
+
+        @Override
+        public void beforePoll() {
+            expireTokens(System.nanoTime());
+        }
+    }
+
+    private record Pending(String token, Case caseEntity) {
+    }
+
+    private record Expiry(String token, long deadline) {
+    }
+}
@@ -1,55 +1,428 @@
 package uk.gov.hmcts.reform.dev.services;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.annotation.Timed;
+import uk.gov.hmcts.reform.dev.models.BatchItemResult;
+import uk.gov.hmcts.reform.dev.models.BatchItemResult.Outcome;
 import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseLookup;
+import uk.gov.hmcts.reform.dev.models.CasePage;
+import uk.gov.hmcts.reform.dev.models.CaseSearchCriteria;
+import uk.gov.hmcts.reform.dev.models.CaseSort;
+import uk.gov.hmcts.reform.dev.models.CaseStatusUpdate;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
 import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository.CaseBeforeChange;
+import uk.gov.hmcts.reform.dev.repositories.CaseSpecifications;
 
 @Service
+@Timed("cases.service")
 public class CaseService {
 
+    public static final String CASES_CACHE = "cases";
+    public static final String OVERDUE_STATUS = "OVERDUE";
+
     private final CaseRepository caseRepository;
+    private final CaseCache caseCache;
+    private final ApplicationEventPublisher events;
+    private final int maxPageSize;
+    private final int maxBatchSize;
 
     @Autowired
-    public CaseService(CaseRepository caseRepository) {
+    public CaseService(CaseRepository caseRepository,
+                       CaseCache caseCache,
+                       ApplicationEventPublisher events,
+                       @Value("${cases.pagination.max-page-size:200}") int maxPageSize,
+                       @Value("${cases.batch.max-size:1000}") int maxBatchSize) {
         this.caseRepository = caseRepository;
+        this.caseCache = caseCache;
+        this.events = events;
+        this.maxPageSize = maxPageSize;
+        this.maxBatchSize = maxBatchSize;
     }
 
     public Case createCase(Case caseEntity) {
+        caseEntity.setId(null);
+        caseEntity.setVersion(null);
         caseEntity.setCreatedDate(LocalDateTime.now());
         caseEntity.setUpdatedDate(LocalDateTime.now());
-        return caseRepository.save(caseEntity);
+        Case saved = caseRepository.save(caseEntity);
+        events.publishEvent(CaseChangedEvent.created(saved));
+        return saved;
+    }
+
+    /**
+     * Inserts all valid cases in one transaction; with pooled sequence ids and hibernate.jdbc.batch_size set,
+     * Hibernate sends them as JDBC batches instead of one round trip per row.
+     */
+    @Transactional
+    public List<BatchItemResult> createCases(List<Case> cases) {
+        checkBatchSize(cases.size());
+        LocalDateTime now = LocalDateTime.now();
+        List<BatchItemResult> results = new ArrayList<>(cases.size());
+        List<Case> valid = new ArrayList<>(cases.size());
+        List<Integer> validIndexes = new ArrayList<>(cases.size());
+        Set<String> takenCaseIds = findTakenCaseIds(cases);
+
+        for (int i = 0; i < cases.size(); i++) {
+            Case caseEntity = cases.get(i);
+            String problem = validate(caseEntity);
+            if (problem == null && caseEntity.getCaseId() != null && !takenCaseIds.add(caseEntity.getCaseId())) {
+                problem = "caseId already exists";
+            }
+            if (problem != null) {
+                results.add(BatchItemResult.invalid(i, null, problem));
+                continue;
+            }
+            caseEntity.setId(null);
+            caseEntity.setVersion(null);
+            caseEntity.setCreatedDate(now);
+            caseEntity.setUpdatedDate(now);
+            valid.add(caseEntity);
+            validIndexes.add(i);
+            results.add(null);
+        }
+
+        List<Case> saved = caseRepository.saveAll(valid);
+        for (int i = 0; i < saved.size(); i++) {
+            int index = validIndexes.get(i);
+            results.set(index, BatchItemResult.of(index, saved.get(i).getId(), Outcome.CREATED));
+            events.publishEvent(CaseChangedEvent.created(saved.get(i)));
+        }
+        return results;
     }
 
+    /**
+     * Falls back to the archive when the case is not in the hot table. Reads from the primary even when a read
+     * replica is configured: a lagging replica would put a stale case into the cache, where it would outlive the
+     * lag.
+     */
     public Optional<Case> getCaseById(Long id) {
-        return caseRepository.findById(id);
+        Case cached = caseCache.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long loadStarted = caseCache.loadStarted();
+        Optional<Case> loaded = caseRepository.findById(id).or(() -> caseRepository.findArchivedById(id));
+        loaded.ifPresent(caseEntity -> caseCache.putLoaded(caseEntity, loadStarted));
+        return loaded;
     }
 
-    public List<Case> getAllCases() {
-        return caseRepository.findAll();
+    /**
+     * Resolves up to {@code max-page-size} ids: cached cases are taken from the case cache and the rest are loaded
+     * with one query, plus one on the archive for any not found there, then cached for later single reads. Like
+     * {@link #getCaseById}, this reads from the primary.
+     */
+    public CaseLookup getCasesByIds(List<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        if (requested.size() > maxPageSize) {
+            throw new BatchTooLargeException(requested.size(), maxPageSize);
+        }
+        Map<Long, Case> found = new HashMap<>();
+        List<Long> uncached = new ArrayList<>();
+        for (Long id : requested) {
+            Case cached = caseCache.get(id);
+            if (cached == null) {
+                uncached.add(id);
+            } else {
+                found.put(id, cached);
+            }
+        }
+        if (!uncached.isEmpty()) {
+            long loadStarted = caseCache.loadStarted();
+            List<Case> loaded = caseRepository.findAllById(uncached);
+            if (loaded.size() < uncached.size()) {
+                Set<Long> hot = loaded.stream().map(Case::getId).collect(Collectors.toSet());
+                List<Long> notHot = uncached.stream().filter(id -> !hot.contains(id)).toList();
+                loaded = new ArrayList<>(loaded);
+                loaded.addAll(caseRepository.findArchivedAllById(notHot));
+            }
+            for (Case caseEntity : loaded) {
+                found.put(caseEntity.getId(), caseEntity);
+                caseCache.putLoaded(caseEntity, loadStarted);
+            }
+        }
+
+        List<Case> items = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            Case caseEntity = found.get(id);
+            if (caseEntity == null) {
+                missing.add(id);
+            } else {
+                items.add(caseEntity);
+            }
+        }
+        return new CaseLookup(items, missing);
     }
 
-    public Case updateCaseStatus(Long id, String status) {
-        Optional<Case> caseOptional = caseRepository.findById(id);
-        if (caseOptional.isPresent()) {
-            Case caseEntity = caseOptional.get();
-            caseEntity.setStatus(status);
-            caseEntity.setUpdatedDate(LocalDateTime.now());
-            return caseRepository.save(caseEntity);
+    @Transactional(readOnly = true)
+    public CasePage<Case> getCasePage(CaseSort sort, CaseCursor cursor, int size) {
+        int pageSize = pageSize(size);
+        // one extra row tells us whether there is a next page without a count query
+        Pageable window = PageRequest.of(0, pageSize + 1);
+
+        List<Case> rows = switch (sort) {
+            case CREATED_DATE -> cursor == null
+                ? caseRepository.findFirstPageByCreatedDate(window)
+                : caseRepository.findPageByCreatedDateAfter(cursor.key(), cursor.id(), window);
+            case DUE_DATE_TIME -> byDueDateTime(cursor, pageSize + 1,
+                                                caseRepository::findFirstPageByDueDateTime,
+                                                caseRepository::findPageByDueDateTimeAfter,
+                                                caseRepository::findPageWithoutDueDateTimeAfter);
+        };
+
+        return toPage(rows, pageSize,
+                      last -> position(sort, last.getCreatedDate(), last.getDueDateTime(), last.getId()));
+    }
+
+    /**
+     * The same pages as {@link #getCasePage} with only the list-view columns, read without loading entities.
+     */
+    @Transactional(readOnly = true)
+    public CasePage<CaseSummary> getCaseSummaryPage(CaseSort sort, CaseCursor cursor, int size) {
+        int pageSize = pageSize(size);
+        Pageable window = PageRequest.of(0, pageSize + 1);
+
+        List<CaseSummary> rows = switch (sort) {
+            case CREATED_DATE -> cursor == null
+                ? caseRepository.findFirstSummaryPageByCreatedDate(window)
+                : caseRepository.findSummaryPageByCreatedDateAfter(cursor.key(), cursor.id(), window);
+            case DUE_DATE_TIME -> byDueDateTime(cursor, pageSize + 1,
+                                                caseRepository::findFirstSummaryPageByDueDateTime,
+                                                caseRepository::findSummaryPageByDueDateTimeAfter,
+                                                caseRepository::findSummaryPageWithoutDueDateTimeAfter);
+        };
+
+        return toPage(rows, pageSize, last -> position(sort, last.createdDate(), last.dueDateTime(), last.id()));
+    }
+
+    @Transactional(readOnly = true)
+    public CasePage<Case> searchCases(CaseSearchCriteria criteria, CaseCursor cursor, int size) {
+        int pageSize = pageSize(size);
+        Specification<Case> spec = cursor == null
+            ? CaseSpecifications.matching(criteria, null, null)
+            : CaseSpecifications.matching(criteria, cursor.key(), cursor.id());
+        List<Case> rows = caseRepository.findBy(spec, query -> query
+            .sortBy(CaseSpecifications.KEYSET_ORDER)
+            .limit(pageSize + 1)
+            .all());
+        return toPage(rows, pageSize,
+                      last -> position(CaseSort.CREATED_DATE, last.getCreatedDate(), null, last.getId()));
+    }
+
+    /**
+     * Changes the status with a single UPDATE statement instead of load-and-save. When {@code expectedVersion} is
+     * given the update only applies if the row is still at that version; otherwise a
+     * {@link CaseVersionConflictException} is thrown. Returns {@code null} when the case does not exist.
+     *
+     * <p>The update returns the row it replaced, so the changed case and the published event are built from it
+     * without reading the row again or locking it beforehand.
+     */
+    @Transactional
+    public Case updateCaseStatus(Long id, String status, Long expectedVersion) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<CaseBeforeChange> updated = expectedVersion == null
+            ? caseRepository.updateStatus(id, status, now)
+            : caseRepository.updateStatusIfVersion(id, status, expectedVersion, now);
+        if (updated.isEmpty()) {
+            return null;
         }
-        return null;
+        CaseBeforeChange before = updated.get();
+        if (expectedVersion != null && !expectedVersion.equals(before.getVersion())) {
+            throw new CaseVersionConflictException(id, expectedVersion);
+        }
+        Case changed = before.toCase();
+        changed.setStatus(status);
+        changed.setUpdatedDate(now);
+        changed.setVersion(before.getVersion() + 1);
+        caseCache.putChanged(changed);
+        events.publishEvent(CaseChangedEvent.statusChanged(changed, before.getStatus()));
+        return changed;
+    }
+
+    /**
+     * Loads every target row with one query and lets the commit flush the changes as batched updates.
+     */
+    @Transactional
+    public List<BatchItemResult> updateCaseStatuses(List<CaseStatusUpdate> updates) {
+        checkBatchSize(updates.size());
+        List<Long> ids = updates.stream()
+            .map(CaseStatusUpdate::getId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        Map<Long, Case> existing = caseRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Case::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BatchItemResult> results = new ArrayList<>(updates.size());
+        for (int i = 0; i < updates.size(); i++) {
+            CaseStatusUpdate update = updates.get(i);
+            if (update.getId() == null || isBlank(update.getStatus())) {
+                results.add(BatchItemResult.invalid(i, update.getId(), "id and status are required"));
+                continue;
+            }
+            Case caseEntity = existing.get(update.getId());
+            if (caseEntity == null) {
+                results.add(BatchItemResult.of(i, update.getId(), Outcome.NOT_FOUND));
+                continue;
+            }
+            String previousStatus = caseEntity.getStatus();
+            caseEntity.setStatus(update.getStatus());
+            caseEntity.setUpdatedDate(now);
+            caseCache.invalidate(caseEntity.getId());
+            events.publishEvent(CaseChangedEvent.statusChanged(caseEntity, previousStatus));
+            results.add(BatchItemResult.of(i, update.getId(), Outcome.UPDATED));
+        }
+        return results;
+    }
+
+    /**
+     * Marks up to {@code limit} cases in {@code status} that were due before {@code dueBefore} as OVERDUE in one
+     * short transaction. Only ids are read, from the (status, dueDateTime) index, and those rows stay locked until
+     * the update so the published event names exactly the cases that moved.
+     */
+    @Transactional
+    public int markOverdue(String status, LocalDateTime dueBefore, int limit) {
+        List<Long> ids = caseRepository.findIdsDueBefore(status, dueBefore, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int updated = caseRepository.transitionStatus(ids, status, OVERDUE_STATUS, LocalDateTime.now());
+        ids.forEach(caseCache::invalidate);
+        events.publishEvent(new CaseStatusesChangedEvent(status, OVERDUE_STATUS, ids));
+        return updated;
+    }
+
+    /**
+     * Moves up to {@code limit} cases in {@code status} last updated before {@code updatedBefore} to the archive
+     * table with one insert-select and one delete, in one short transaction. Only the ids are read and locked; the
+     * rows themselves are copied inside the database.
+     */
+    @Transactional
+    public int archive(String status, LocalDateTime updatedBefore, int limit) {
+        List<Long> ids = caseRepository.findIdsForArchive(status, updatedBefore, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        caseRepository.copyToArchive(ids, LocalDateTime.now());
+        int archived = caseRepository.deleteAllByIds(ids);
+        // cached copies stay valid: an archived case keeps its id and contents and can no longer change
+        events.publishEvent(new CasesArchivedEvent(status, ids));
+        return archived;
     }
 
+    /**
+     * Deletes with a single DELETE that returns the removed row, so only the request that actually removed the case
+     * publishes the change; a concurrent delete of the same case finds nothing and returns {@code false}.
+     */
+    @Transactional
     public boolean deleteCase(Long id) {
-        if (caseRepository.existsById(id)) {
-            caseRepository.deleteById(id);
-            return true;
+        Optional<CaseBeforeChange> deleted = caseRepository.deleteReturningRow(id);
+        if (deleted.isEmpty()) {
+            return false;
+        }
+        caseCache.invalidate(id);
+        events.publishEvent(CaseChangedEvent.deleted(deleted.get().toCase()));
+        return true;
+    }
+
+    private Set<String> findTakenCaseIds(List<Case> cases) {
+        List<String> caseIds = cases.stream()
+            .filter(Objects::nonNull)
+            .map(Case::getCaseId)
+            .filter(Objects::nonNull)
+            .toList();
+        return caseIds.isEmpty() ? new HashSet<>() : new HashSet<>(caseRepository.findExistingCaseIds(caseIds));
+    }
+
+    private int pageSize(int requested) {
+        return Math.max(1, Math.min(requested, maxPageSize));
+    }
+
+    private static <T> CasePage<T> toPage(List<T> rows, int pageSize, Function<T, CaseCursor> positionOf) {
+        if (rows.size() <= pageSize) {
+            return new CasePage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, pageSize);
+        return new CasePage<>(items, positionOf.apply(items.get(pageSize - 1)).encode());
+    }
+
+    /**
+     * Cases with a due date in (dueDateTime, id) order, then those without one in id order. Each part is read with
+     * its own range scan: one query with "or dueDateTime is null" cannot use the index, so every page would scan
+     * and sort the whole table.
+     */
+    private static <T> List<T> byDueDateTime(CaseCursor cursor, int limit,
+                                             Function<Pageable, List<T>> firstDated,
+                                             DatedPageQuery<T> datedAfter,
+                                             BiFunction<Long, Pageable, List<T>> undatedAfter) {
+        if (cursor != null && cursor.key() == null) {
+            return undatedAfter.apply(cursor.id(), PageRequest.of(0, limit));
         }
-        return false;
+        List<T> rows = cursor == null
+            ? firstDated.apply(PageRequest.of(0, limit))
+            : datedAfter.find(cursor.key(), cursor.id(), PageRequest.of(0, limit));
+        if (rows.size() < limit) {
+            rows = new ArrayList<>(rows);
+            rows.addAll(undatedAfter.apply(0L, PageRequest.of(0, limit - rows.size())));
+        }
+        return rows;
+    }
+
+    private static CaseCursor position(CaseSort sort, LocalDateTime createdDate, LocalDateTime dueDateTime, long id) {
+        return new CaseCursor(sort, sort == CaseSort.DUE_DATE_TIME ? dueDateTime : createdDate, id);
+    }
+
+    private void checkBatchSize(int size) {
+        if (size > maxBatchSize) {
+            throw new BatchTooLargeException(size, maxBatchSize);
+        }
+    }
+
+    private static String validate(Case caseEntity) {
+        if (caseEntity == null) {
+            return "case is required";
+        }
+        if (isBlank(caseEntity.getTitle())) {
+            return "Title is required";
+        }
+        if (isBlank(caseEntity.getStatus())) {
+            return "Status is required";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    @FunctionalInterface
+    private interface DatedPageQuery<T> {
+
+        List<T> find(LocalDateTime dueDateTime, Long id, Pageable pageable);
     }
 }
\ No newline at end of file
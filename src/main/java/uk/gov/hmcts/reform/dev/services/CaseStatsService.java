@@ -0,0 +1,160 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.dev.models.CaseStats;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository.StatusCount;
+
+/**
+ * Per-status case counts kept in memory from committed change events, so dashboards can poll without a
+ * {@code GROUP BY} each time. The counters are replaced with a fresh database count shortly after start-up and then
+ * every {@code cases.stats.reconcile-interval}, which corrects drift from writes made outside this instance. Until
+ * the first count finishes, {@link #getStats()} only reflects changes made since start-up.
+ */
+@Slf4j
+@Service
+public class CaseStatsService {
+
+    private final CaseRepository caseRepository;
+    private final Counter driftCounter;
+    private volatile Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+    // changes applied while a reconciliation's GROUP BY runs; null otherwise
+    private volatile Map<String, LongAdder> changesDuringCount;
+    // events update counters under the shared lock; reconciliation only takes the exclusive one to swap them
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Instant reconciledAt;
+
+    public CaseStatsService(CaseRepository caseRepository, MeterRegistry meterRegistry) {
+        this.caseRepository = caseRepository;
+        this.driftCounter = Counter.builder("cases.stats.drift")
+            .description("Absolute difference between in-memory and database counts found by reconciliation")
+            .register(meterRegistry);
+    }
+
+    public CaseStats getStats() {
+        Map<String, Long> byStatus = new TreeMap<>();
+        lock.readLock().lock();
+        try {
+            counts.forEach((status, count) -> {
+                long value = count.sum();
+                if (value > 0) {
+                    byStatus.put(status, value);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        return new CaseStats(total, byStatus.getOrDefault(CaseService.OVERDUE_STATUS, 0L), byStatus, reconciledAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCaseChanged(CaseChangedEvent event) {
+        switch (event.change()) {
+            case CREATED -> adjust(event.current().getStatus(), 1);
+            case STATUS_CHANGED -> {
+                adjust(event.previousStatus(), -1);
+                adjust(event.current().getStatus(), 1);
+            }
+            case DELETED -> adjust(event.previousStatus(), -1);
+            default -> {
+                // no status change
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusesChanged(CaseStatusesChangedEvent event) {
+        adjust(event.fromStatus(), -event.count());
+        adjust(event.toStatus(), event.count());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCasesArchived(CasesArchivedEvent event) {
+        adjust(event.status(), -event.count());
+    }
+
+    /**
+     * Counts cases by status without holding any lock, then swaps in the result plus whatever changes arrived while
+     * the count ran, so writes are neither blocked nor lost during the {@code GROUP BY}. Only a change that commits
+     * just before the count starts but reaches this listener after it can be counted twice, and the next
+     * reconciliation corrects that.
+     */
+    @Scheduled(fixedDelayString = "${cases.stats.reconcile-interval:5m}")
+    public synchronized void reconcile() {
+        changesDuringCount = new ConcurrentHashMap<>();
+        try {
+            Map<String, Long> actual = new TreeMap<>();
+            for (StatusCount row : caseRepository.countByStatus()) {
+                if (row.getStatus() != null) {
+                    actual.put(row.getStatus(), row.getCount());
+                }
+            }
+            swap(actual);
+        } finally {
+            changesDuringCount = null;
+        }
+    }
+
+    private void swap(Map<String, Long> actual) {
+        long drift = 0;
+        lock.writeLock().lock();
+        try {
+            Map<String, LongAdder> fresh = new ConcurrentHashMap<>();
+            actual.forEach((status, count) -> counter(fresh, status).add(count));
+            changesDuringCount.forEach((status, delta) -> counter(fresh, status).add(delta.sum()));
+            for (Map.Entry<String, LongAdder> entry : counts.entrySet()) {
+                LongAdder correct = fresh.get(entry.getKey());
+                drift += Math.abs(entry.getValue().sum() - (correct == null ? 0 : correct.sum()));
+            }
+            for (Map.Entry<String, LongAdder> entry : fresh.entrySet()) {
+                if (!counts.containsKey(entry.getKey())) {
+                    drift += Math.abs(entry.getValue().sum());
+                }
+            }
+            counts = fresh;
+            changesDuringCount = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (reconciledAt != null && drift > 0) {
+            log.warn("Case status counters drifted by {} from the database and were corrected", drift);
+            driftCounter.increment(drift);
+        }
+        reconciledAt = Instant.now();
+    }
+
+    private void adjust(String status, long delta) {
+        if (status == null || delta == 0) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            counter(counts, status).add(delta);
+            Map<String, LongAdder> changes = changesDuringCount;
+            if (changes != null) {
+                counter(changes, status).add(delta);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static LongAdder counter(Map<String, LongAdder> counters, String status) {
+        return counters.computeIfAbsent(status, key -> new LongAdder());
+    }
+}
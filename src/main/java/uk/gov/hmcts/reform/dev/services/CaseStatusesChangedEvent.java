@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.util.List;
+
+/**
+ * Published by {@link CaseService} when a set-based update moves the cases with {@code ids} from one status to
+ * another without loading them.
+ */
+public record CaseStatusesChangedEvent(String fromStatus, String toStatus, List<Long> ids) {
+
+    public int count() {
+        return ids.size();
+    }
+}
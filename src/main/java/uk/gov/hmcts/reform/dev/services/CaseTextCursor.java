@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Position of the last hit returned on a text-search page: its relevance score plus the id as tie-breaker.
+ */
+public record CaseTextCursor(float score, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = Float.toString(score) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Optional<CaseTextCursor> decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) {
+                return Optional.empty();
+            }
+            return Optional.of(new CaseTextCursor(Float.parseFloat(parts[0]), Long.parseLong(parts[1])));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over case text, ranked with BM25. Each term's postings are parallel primitive arrays
+ * sorted by case id, so a query walks the rarest term's list and seeks into the others rather than scoring every
+ * case. All query terms must match. Queries share a read lock; adds and removes take the write lock.
+ */
+public class CaseTextIndex {
+
+    /**
+     * Best first: higher score, then lower id.
+     */
+    public static final Comparator<Hit> RANK = Comparator.comparingDouble(Hit::score).reversed()
+        .thenComparingLong(Hit::id);
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final int MAX_PACKED = 0xFFFF;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long documents;
+    private long totalLength;
+
+    public record Hit(long id, float score) {
+    }
+
+    /**
+     * Indexes the given text fields of a case. Adding the same case again with the same text is a no-op.
+     */
+    public void add(long id, String... fields) {
+        Map<String, Integer> terms = termFrequencies(fields);
+        if (terms.isEmpty()) {
+            return;
+        }
+        int length = documentLength(terms);
+        lock.writeLock().lock();
+        try {
+            boolean added = false;
+            for (Map.Entry<String, Integer> term : terms.entrySet()) {
+                added |= postings.computeIfAbsent(term.getKey(), key -> new Postings())
+                    .put(id, pack(term.getValue(), length));
+            }
+            if (added) {
+                documents++;
+                totalLength += length;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a case; {@code fields} must be the text it was indexed with.
+     */
+    public void remove(long id, String... fields) {
+        Map<String, Integer> terms = termFrequencies(fields);
+        lock.writeLock().lock();
+        try {
+            boolean removed = false;
+            for (String term : terms.keySet()) {
+                Postings list = postings.get(term);
+                if (list != null && list.remove(id)) {
+                    removed = true;
+                    if (list.size == 0) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            if (removed) {
+                documents--;
+                totalLength -= documentLength(terms);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} hits in {@link #RANK} order, starting after {@code after} when it is given.
+     */
+    public List<Hit> search(String query, Hit after, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[terms.size()];
+            int index = 0;
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    return List.of();
+                }
+                lists[index++] = list;
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+            return collect(lists, after, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return documents;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Hit> collect(Postings[] lists, Hit after, int limit) {
+        // BM25 length normalisation, k1 * (1 - b + b * length / averageLength), split into constant parts
+        float lengthBase = K1 * (1 - B);
+        float lengthFactor = K1 * B * documents / totalLength;
+        float[] idf = new float[lists.length];
+        for (int i = 0; i < lists.length; i++) {
+            idf[i] = (float) Math.log(1 + (documents - lists[i].size + 0.5) / (lists[i].size + 0.5));
+        }
+        int[] positions = new int[lists.length];
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, RANK.reversed());
+        Postings lead = lists[0];
+        // rank of the worst hit kept so far; anything not ranking above it is skipped without allocating
+        float floorScore = Float.NEGATIVE_INFINITY;
+        long floorId = Long.MAX_VALUE;
+
+        candidates:
+        for (int i = 0; i < lead.size; i++) {
+            long id = lead.ids[i];
+            float score = idf[0] * termScore(lead.values[i], lengthBase, lengthFactor);
+            for (int j = 1; j < lists.length; j++) {
+                int position = lists[j].seek(id, positions[j]);
+                positions[j] = position;
+                if (position == lists[j].size) {
+                    break candidates;
+                }
+                if (lists[j].ids[position] != id) {
+                    continue candidates;
+                }
+                score += idf[j] * termScore(lists[j].values[position], lengthBase, lengthFactor);
+            }
+            if (after != null && !ranksAfter(score, id, after)) {
+                continue;
+            }
+            if (best.size() == limit) {
+                if (score < floorScore || score == floorScore && id > floorId) {
+                    continue;
+                }
+                best.poll();
+            }
+            best.add(new Hit(id, score));
+            if (best.size() == limit) {
+                floorScore = best.peek().score();
+                floorId = best.peek().id();
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(RANK);
+        return hits;
+    }
+
+    private static boolean ranksAfter(float score, long id, Hit other) {
+        return score < other.score() || score == other.score() && id > other.id();
+    }
+
+    private static float termScore(int packed, float lengthBase, float lengthFactor) {
+        int frequency = packed & MAX_PACKED;
+        int length = packed >>> 16;
+        return frequency * (K1 + 1) / (frequency + lengthBase + lengthFactor * length);
+    }
+
+    private static int pack(int frequency, int length) {
+        return Math.min(length, MAX_PACKED) << 16 | Math.min(frequency, MAX_PACKED);
+    }
+
+    private static int documentLength(Map<String, Integer> terms) {
+        return terms.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private static Map<String, Integer> termFrequencies(String... fields) {
+        Map<String, Integer> terms = new HashMap<>();
+        for (String field : fields) {
+            for (String term : tokenize(field)) {
+                terms.merge(term, 1, Integer::sum);
+            }
+        }
+        return terms;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String token : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (token.length() >= MIN_TERM_LENGTH) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Case ids in ascending order, each with its term frequency and document length packed into one int.
+     */
+    private static final class Postings {
+
+        private long[] ids = new long[4];
+        private int[] values = new int[4];
+        private int size;
+
+        boolean put(long id, int value) {
+            int position = size > 0 && ids[size - 1] < id ? size : find(id);
+            if (position < size && ids[position] == id) {
+                values[position] = value;
+                return false;
+            }
+            if (size == ids.length) {
+                int capacity = size + (size >> 1);
+                ids = Arrays.copyOf(ids, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            System.arraycopy(values, position, values, position + 1, size - position);
+            ids[position] = id;
+            values[position] = value;
+            size++;
+            return true;
+        }
+
+        boolean remove(long id) {
+            int position = find(id);
+            if (position == size || ids[position] != id) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            System.arraycopy(values, position + 1, values, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        /**
+         * Index of the first id not less than {@code id}, searching forward from {@code from} with a galloping
+         * search so that walking a long list in step with a short one stays cheap.
+         */
+        int seek(long id, int from) {
+            int step = 1;
+            int low = from;
+            int high = from;
+            while (high < size && ids[high] < id) {
+                low = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            return lowerBound(id, low, Math.min(high, size));
+        }
+
+        private int find(long id) {
+            return lowerBound(id, 0, size);
+        }
+
+        private int lowerBound(long id, int from, int to) {
+            int position = Arrays.binarySearch(ids, from, to, id);
+            return position >= 0 ? position : -position - 1;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CasePage;
+import uk.gov.hmcts.reform.dev.models.CaseSearchCriteria;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+
+/**
+ * Word search over case title and description. Queries run against an in-process {@link CaseTextIndex}, and only
+ * the page of matching ids is loaded from the database.
+ *
+ * <p>The index is built from the database in the background once the application is ready. Until then searches
+ * see only what has been indexed so far. Afterwards it follows committed {@link CaseChangedEvent}s, so each instance
+ * only sees cases written through itself or present at start-up. Events that commit while the build is running are
+ * held back and applied once it finishes, so a case deleted after the build read it is not left behind in the index.
+ */
+@Slf4j
+@Service
+public class CaseTextSearchService {
+
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofMinutes(1);
+
+    private final CaseTextIndex index = new CaseTextIndex();
+    private final CaseRepository caseRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxPageSize;
+    private final Duration retryBackoff;
+    // index updates held back while a rebuild runs; null otherwise
+    private List<Runnable> pending;
+
+    @Autowired
+    public CaseTextSearchService(CaseRepository caseRepository,
+                                 EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${cases.pagination.max-page-size:200}") int maxPageSize,
+                                 @Value("${cases.text-search.retry-backoff:1s}") Duration retryBackoff) {
+        this.caseRepository = caseRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxPageSize = maxPageSize;
+        this.retryBackoff = retryBackoff;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        Thread.ofPlatform().daemon().name("case-text-index").start(this::buildWithRetries);
+    }
+
+    /**
+     * Runs {@link #rebuild} until it succeeds, waiting longer after each failure. Cases indexed by a failed attempt
+     * stay in the index and adding them again is a no-op, so the next attempt only fills in the rest.
+     */
+    void buildWithRetries() {
+        long backoff = retryBackoff.toMillis();
+        while (true) {
+            try {
+                rebuild();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Building the text search index failed, retrying in {} ms; searches miss cases until then",
+                          backoff, e);
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            backoff = Math.min(backoff * 2, MAX_RETRY_BACKOFF.toMillis());
+        }
+    }
+
+    void rebuild() {
+        long started = System.nanoTime();
+        synchronized (this) {
+            pending = new ArrayList<>();
+        }
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Case> cases = caseRepository.streamForExport(new CaseSearchCriteria())) {
+                    cases.forEach(caseEntity -> {
+                        index.add(caseEntity.getId(), caseEntity.getTitle(), caseEntity.getDescription());
+                        entityManager.detach(caseEntity);
+                    });
+                }
+            });
+        } finally {
+            applyPending();
+        }
+        log.info("Indexed {} cases for text search in {} ms", index.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCaseChanged(CaseChangedEvent event) {
+        applyOrHold(() -> apply(event));
+    }
+
+    /**
+     * Archiving only reads ids, so the archived text is read back from the archive to find its index entries.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCasesArchived(CasesArchivedEvent event) {
+        applyOrHold(() -> caseRepository.findArchivedAllById(event.ids()).forEach(
+            archived -> index.remove(archived.getId(), archived.getTitle(), archived.getDescription())));
+    }
+
+    private void applyOrHold(Runnable update) {
+        synchronized (this) {
+            if (pending != null) {
+                pending.add(update);
+                return;
+            }
+        }
+        update.run();
+    }
+
+    /**
+     * Replays the updates held back during a rebuild in commit order. Updates arriving meanwhile join the queue, and
+     * it is only dropped once empty, so nothing is applied out of order.
+     */
+    private void applyPending() {
+        while (true) {
+            List<Runnable> updates;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    pending = null;
+                    return;
+                }
+                updates = pending;
+                pending = new ArrayList<>();
+            }
+            updates.forEach(Runnable::run);
+        }
+    }
+
+    private void apply(CaseChangedEvent event) {
+        Case changed = event.current();
+        switch (event.change()) {
+            case CREATED -> index.add(changed.getId(), changed.getTitle(), changed.getDescription());
+            case DELETED -> index.remove(changed.getId(), changed.getTitle(), changed.getDescription());
+            default -> {
+                // text does not change on other writes
+            }
+        }
+    }
+
+    /**
+     * Cases containing every word of {@code query}, most relevant first. Scores depend on the whole index, so a
+     * page fetched after other cases were added can overlap slightly with the one before it.
+     */
+    @Transactional(readOnly = true)
+    public CasePage<Case> search(String query, CaseTextCursor cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        CaseTextIndex.Hit after = cursor == null ? null : new CaseTextIndex.Hit(cursor.id(), cursor.score());
+        List<CaseTextIndex.Hit> hits = index.search(query, after, pageSize + 1);
+        boolean hasMore = hits.size() > pageSize;
+        if (hasMore) {
+            hits = hits.subList(0, pageSize);
+        }
+
+        List<Long> ids = hits.stream().map(CaseTextIndex.Hit::id).toList();
+        Map<Long, Case> found = caseRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Case::getId, Function.identity()));
+        // a hit can be missing if the case was deleted on another instance
+        List<Case> items = ids.stream().map(found::get).filter(Objects::nonNull).toList();
+
+        CaseTextIndex.Hit last = hasMore ? hits.get(hits.size() - 1) : null;
+        return new CasePage<>(items, last == null ? null : new CaseTextCursor(last.score(), last.id()).encode());
+    }
+}
@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class CaseVersionConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CaseVersionConflictException(Long id, Long expectedVersion) {
+        super("Case " + id + " is no longer at version " + expectedVersion);
+    }
+}
@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.util.List;
+
+/**
+ * Published by {@link CaseService} when the cases with {@code ids}, all in {@code status}, are moved to the archive.
+ * Archiving only reads their ids; a listener that needs more of an archived case reads it from the archive. Archived
+ * cases are still readable by id but gone from lists, searches and counts.
+ */
+public record CasesArchivedEvent(String status, List<Long> ids) {
+
+    public int count() {
+        return ids.size();
+    }
+}
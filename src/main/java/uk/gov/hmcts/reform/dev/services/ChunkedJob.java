@@ -0,0 +1,89 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.LocalDateTime;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The loop behind the scheduled bulk jobs. For each status in turn it runs {@link Chunk}s of {@code chunkSize} rows,
+ * each meant to be its own short transaction, until one comes back short. A run stops after
+ * {@code maxChunksPerRun} chunks in all, leaving the rest to the next run.
+ *
+ * <p>Each run is timed, and the rows each chunk reports are counted by status.
+ */
+final class ChunkedJob {
+
+    private final MeterRegistry meterRegistry;
+    private final Meters meters;
+    private final Timer runTimer;
+    private final String[] statuses;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Chunk chunk;
+
+    ChunkedJob(MeterRegistry meterRegistry, Meters meters, String[] statuses, int chunkSize, int maxChunksPerRun,
+               Chunk chunk) {
+        this.meterRegistry = meterRegistry;
+        this.meters = meters;
+        this.runTimer = Timer.builder(meters.runTimer())
+            .description(meters.runDescription())
+            .register(meterRegistry);
+        this.statuses = statuses;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.chunk = chunk;
+    }
+
+    /**
+     * Returns the number of rows the chunks reported.
+     */
+    int run(LocalDateTime cutoff) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return runChunks(cutoff);
+        } finally {
+            sample.stop(runTimer);
+        }
+    }
+
+    private int runChunks(LocalDateTime cutoff) {
+        int chunks = 0;
+        int total = 0;
+        for (String status : statuses) {
+            int processed;
+            do {
+                if (chunks++ == maxChunksPerRun) {
+                    return total;
+                }
+                processed = chunk.process(status, cutoff, chunkSize);
+                total += processed;
+                counter(status).increment(processed);
+            } while (processed == chunkSize);
+        }
+        return total;
+    }
+
+    private Counter counter(String status) {
+        return Counter.builder(meters.counter())
+            .description(meters.counterDescription())
+            .tag("status", status)
+            .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    interface Chunk {
+
+        /**
+         * Processes up to {@code limit} rows in {@code status} that fall before {@code cutoff}, returning how many.
+         */
+        int process(String status, LocalDateTime cutoff, int limit);
+    }
+
+    /**
+     * Names of the run timer and of the per-status row counter.
+     */
+    record Meters(String runTimer, String runDescription, String counter, String counterDescription) {
+    }
+}
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Periodically marks open cases whose due time has passed as OVERDUE. Each chunk is its own short transaction
+ * ({@link CaseService#markOverdue}), so row locks are held for one chunk at a time and a run never locks the table.
+ * A run stops after {@code max-chunks-per-run} chunks; anything left is picked up by the next run.
+ */
+@Component
+@ConditionalOnProperty(name = "cases.overdue-sweeper.enabled", havingValue = "true", matchIfMissing = true)
+public class OverdueCaseSweeper {
+
+    private static final ChunkedJob.Meters METERS = new ChunkedJob.Meters(
+        "cases.overdue.sweep", "Duration of one overdue sweeper run",
+        "cases.overdue.marked", "Cases marked OVERDUE by the sweeper, by their previous status");
+
+    private final ChunkedJob job;
+
+    public OverdueCaseSweeper(CaseService caseService,
+                              MeterRegistry meterRegistry,
+                              @Value("${cases.overdue-sweeper.open-statuses:TODO,IN_PROGRESS}") String[] openStatuses,
+                              @Value("${cases.overdue-sweeper.chunk-size:500}") int chunkSize,
+                              @Value("${cases.overdue-sweeper.max-chunks-per-run:100}") int maxChunksPerRun) {
+        this.job = new ChunkedJob(meterRegistry, METERS, openStatuses, chunkSize, maxChunksPerRun,
+                                  caseService::markOverdue);
+    }
+
+    @Scheduled(fixedDelayString = "${cases.overdue-sweeper.interval:1m}",
+        initialDelayString = "${cases.overdue-sweeper.initial-delay:30s}")
+    public void run() {
+        sweep();
+    }
+
+    /**
+     * Returns the number of cases marked OVERDUE.
+     */
+    public int sweep() {
+        return job.run(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,15 @@
+-- The cases table exactly as hibernate.ddl-auto created it before migrations existed, as in data/testdb. Databases
+-- created that way already have it and are adopted at spring.flyway.baseline-version 1, so this only runs on new
+-- databases; everything added since is in the later migrations.
+
+create table cases (
+    id bigint generated by default as identity not null,
+    case_id varchar(255),
+    created_date timestamp(6),
+    description varchar(255),
+    due_date_time timestamp(6),
+    status varchar(255) not null,
+    title varchar(255) not null,
+    updated_date timestamp(6),
+    primary key (id)
+);
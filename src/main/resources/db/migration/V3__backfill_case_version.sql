@@ -0,0 +1,6 @@
+-- Cases written before optimistic locking have no version. "version = version + 1" would keep them NULL, their
+-- ETag would read "null" and every If-Match on them would fail, so they start at 0 like new cases.
+alter table cases add column version bigint;
+update cases set version = 0 where version is null;
+alter table cases alter column version set default 0;
+alter table cases alter column version set not null;
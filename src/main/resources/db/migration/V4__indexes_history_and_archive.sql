@@ -0,0 +1,37 @@
+-- Listing, overdue and archive indexes on cases, the unique caseId, and the case history and archive tables.
+
+create index idx_cases_created_date_id on cases (created_date, id);
+create index idx_cases_due_date_time_id on cases (due_date_time, id);
+create index idx_cases_status_created_date_id on cases (status, created_date, id);
+create index idx_cases_status_due_date_time_id on cases (status, due_date_time, id);
+create index idx_cases_status_updated_date_id on cases (status, updated_date, id);
+create unique index uk_cases_case_id on cases (case_id);
+
+create sequence case_events_seq start with 1 increment by 50;
+
+create table case_events (
+    id bigint not null,
+    case_id bigint not null,
+    type varchar(32) not null,
+    status varchar(255),
+    previous_status varchar(255),
+    version bigint,
+    recorded_at timestamp(6) not null,
+    primary key (id)
+);
+
+create index idx_case_events_case_id_id on case_events (case_id, id);
+
+create table cases_archive (
+    id bigint not null,
+    archived_date timestamp(6),
+    case_id varchar(255),
+    created_date timestamp(6),
+    description varchar(255),
+    due_date_time timestamp(6),
+    status varchar(255),
+    title varchar(255),
+    updated_date timestamp(6),
+    version bigint,
+    primary key (id)
+);
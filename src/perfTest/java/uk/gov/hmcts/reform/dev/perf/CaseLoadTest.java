@@ -0,0 +1,272 @@
+package uk.gov.hmcts.reform.dev.perf;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Open-loop load against the whole application on a random port and an in-memory H2 database. Requests start at a
+ * fixed rate on their own virtual threads whether or not earlier ones have finished, so a slow server builds a
+ * backlog instead of quietly being sent less work. Latency is measured from when each request was due rather than
+ * when it was sent, so time spent waiting behind that backlog is counted too.
+ *
+ * <p>The profile and the limits are in {@code perf.properties}. Per-route percentile distributions are written to
+ * {@code build/reports/perf/<route>.hgrm}.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.datasource.url=jdbc:h2:mem:perf;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.main.banner-mode=off",
+        "cases.overdue-sweeper.enabled=false",
+        "cases.archiver.enabled=false"
+    })
+class CaseLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CaseLoadTest.class);
+    private static final long MAX_LATENCY = TimeUnit.MINUTES.toNanos(1);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final String JSON = "application/json";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(REQUEST_TIMEOUT)
+        .build();
+    private final Map<Route, Histogram> latencies = new EnumMap<>(Route.class);
+    private final Map<Route, LongAdder> errors = new EnumMap<>(Route.class);
+    private final LongAdder completedInWindow = new LongAdder();
+    // cases created during the run, in creation order; deletes take from here so reads and updates always hit
+    private final Queue<Long> deletable = new ConcurrentLinkedQueue<>();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("Should keep p99 and throughput within perf.properties under a fixed-rate CRUD mix")
+    void crudMix_FixedArrivalRate_StaysWithinThresholds() throws Exception {
+        LoadProfile profile = LoadProfile.load();
+        for (Route route : Route.values()) {
+            latencies.put(route, new ConcurrentHistogram(MAX_LATENCY, 3));
+            errors.put(route, new LongAdder());
+        }
+        long[] seeded = seed(profile.seedCases());
+        assertThat(seeded).as("seeded case ids").hasSize(profile.seedCases());
+
+        drive(profile, seeded);
+        writeReports();
+
+        assertThat(regressions(profile)).as("load test regressions").isEmpty();
+    }
+
+    private void drive(LoadProfile profile, long[] seeded) {
+        Route[] routes = weightedRoutes(profile.mix());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long start = System.nanoTime();
+        long measureFrom = start + profile.warmup().toNanos();
+        long measureTo = measureFrom + profile.duration().toNanos();
+        log.info("Driving {} requests/s for {} after a {} warm-up, mix {}",
+                 profile.rate(), profile.duration(), profile.warmup(), profile.mix());
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long due = start + i * 1_000_000_000L / profile.rate();
+                if (due >= measureTo) {
+                    break;
+                }
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Route route = routes[random.nextInt(routes.length)];
+                Long target = route == Route.DELETE ? deletable.poll() : null;
+                if (route == Route.DELETE && target == null) {
+                    // nothing created yet; keep the arrival rate rather than skipping the slot
+                    route = Route.READ;
+                }
+                if (target == null) {
+                    target = seeded[random.nextInt(seeded.length)];
+                }
+                Route chosen = route;
+                long id = target;
+                boolean measured = due >= measureFrom;
+                clients.submit(() -> call(chosen, id, due, measured, measureTo));
+            }
+        }
+    }
+
+    private void call(Route route, long id, long due, boolean measured, long measureTo) {
+        boolean failed;
+        try {
+            HttpResponse<String> response = client.send(request(route, id), HttpResponse.BodyHandlers.ofString());
+            failed = response.statusCode() >= 400;
+            if (route == Route.CREATE && !failed) {
+                deletable.add(objectMapper.readTree(response.body()).path("id").asLong());
+            }
+        } catch (IOException e) {
+            failed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long finished = System.nanoTime();
+        if (!measured) {
+            return;
+        }
+        latencies.get(route).recordValue(Math.min(finished - due, MAX_LATENCY));
+        if (failed) {
+            errors.get(route).increment();
+        } else if (finished <= measureTo) {
+            completedInWindow.increment();
+        }
+    }
+
+    private HttpRequest request(Route route, long id) {
+        String cases = "http://localhost:" + port + "/api/cases";
+        HttpRequest.Builder builder = switch (route) {
+            case CREATE -> HttpRequest.newBuilder(URI.create(cases))
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"Load case\",\"status\":\"TODO\"}"));
+            case READ -> HttpRequest.newBuilder(URI.create(cases + "/" + id)).GET();
+            case UPDATE -> HttpRequest.newBuilder(URI.create(cases + "/" + id + "/status"))
+                .header("Content-Type", JSON)
+                .PUT(HttpRequest.BodyPublishers.ofString(ThreadLocalRandom.current().nextBoolean()
+                    ? "{\"status\":\"IN_PROGRESS\"}"
+                    : "{\"status\":\"TODO\"}"));
+            case DELETE -> HttpRequest.newBuilder(URI.create(cases + "/" + id)).DELETE();
+        };
+        return builder.timeout(REQUEST_TIMEOUT).build();
+    }
+
+    private long[] seed(int count) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>(count);
+        for (int offset = 0; offset < count; offset += SEED_BATCH_SIZE) {
+            StringBuilder body = new StringBuilder("[");
+            for (int i = offset; i < Math.min(count, offset + SEED_BATCH_SIZE); i++) {
+                body.append(i == offset ? "" : ",")
+                    .append("{\"title\":\"Seeded case ").append(i).append("\",\"status\":\"TODO\"}");
+            }
+            body.append(']');
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/cases/batch"))
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+            JsonNode results = objectMapper.readTree(client.send(request, HttpResponse.BodyHandlers.ofString()).body());
+            for (JsonNode result : results) {
+                if ("CREATED".equals(result.path("outcome").asText())) {
+                    ids.add(result.path("id").asLong());
+                }
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private List<String> regressions(LoadProfile profile) {
+        List<String> regressions = new ArrayList<>();
+        long requests = 0;
+        long failed = 0;
+        for (Route route : profile.mix().keySet()) {
+            Histogram histogram = latencies.get(route);
+            requests += histogram.getTotalCount();
+            failed += errors.get(route).sum();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            long p99 = histogram.getValueAtPercentile(99.0);
+            Duration limit = profile.p99Limits().get(route);
+            if (p99 > limit.toNanos()) {
+                regressions.add(String.format("%s p99 %.1f ms is over the %d ms limit",
+                                              route.label(), p99 / 1e6, limit.toMillis()));
+            }
+        }
+        if (requests == 0) {
+            regressions.add("no requests were measured");
+            return regressions;
+        }
+
+        double throughput = completedInWindow.sum() / (profile.duration().toNanos() / 1e9);
+        double minThroughput = profile.rate() * profile.minThroughputRatio();
+        if (throughput < minThroughput) {
+            regressions.add(String.format("throughput %.0f requests/s is under the %.0f requests/s minimum",
+                                          throughput, minThroughput));
+        }
+        double errorRate = failed / (double) requests;
+        if (errorRate > profile.maxErrorRate()) {
+            regressions.add(String.format("error rate %.4f is over the %.4f maximum",
+                                          errorRate, profile.maxErrorRate()));
+        }
+        log.info("Completed {} requests/s, {} of {} measured requests failed",
+                 String.format("%.0f", throughput), failed, requests);
+        return regressions;
+    }
+
+    private void writeReports() throws IOException {
+        Path directory = Path.of(System.getProperty("perf.report-dir", "build/reports/perf"));
+        Files.createDirectories(directory);
+        for (Map.Entry<Route, Histogram> entry : latencies.entrySet()) {
+            Histogram histogram = entry.getValue();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            log.info("{}: {} requests, p50 {} ms, p99 {} ms, p99.9 {} ms, max {} ms, {} errors",
+                     entry.getKey().label(), histogram.getTotalCount(),
+                     millis(histogram.getValueAtPercentile(50.0)), millis(histogram.getValueAtPercentile(99.0)),
+                     millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()),
+                     errors.get(entry.getKey()).sum());
+            try (PrintStream out = new PrintStream(
+                Files.newOutputStream(directory.resolve(entry.getKey().label() + ".hgrm")))) {
+                // values are recorded in nanoseconds and written in milliseconds
+                histogram.outputPercentileDistribution(out, 1e6);
+            }
+        }
+    }
+
+    private static Route[] weightedRoutes(Map<Route, Integer> mix) {
+        List<Route> routes = new ArrayList<>();
+        mix.forEach((route, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                routes.add(route);
+            }
+        });
+        return routes.toArray(Route[]::new);
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / 1e6);
+    }
+}
@@ -0,0 +1,93 @@
+package uk.gov.hmcts.reform.dev.perf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * What {@link CaseLoadTest} drives and the limits it enforces, read from {@code perf.properties} with system
+ * properties of the same name taking precedence.
+ */
+record LoadProfile(int rate,
+                   Duration warmup,
+                   Duration duration,
+                   Map<Route, Integer> mix,
+                   int seedCases,
+                   Map<Route, Duration> p99Limits,
+                   double minThroughputRatio,
+                   double maxErrorRate) {
+
+    static final String RESOURCE = "/perf.properties";
+
+    static LoadProfile load() {
+        Properties properties = new Properties();
+        try (InputStream in = LoadProfile.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException(RESOURCE + " is not on the classpath");
+            }
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith("perf.")) {
+                properties.setProperty(name, System.getProperty(name));
+            }
+        }
+        return from(properties);
+    }
+
+    static LoadProfile from(Properties properties) {
+        Map<Route, Duration> p99Limits = new EnumMap<>(Route.class);
+        for (Route route : Route.values()) {
+            p99Limits.put(route, duration(properties, "perf.p99." + route.label()));
+        }
+        return new LoadProfile(
+            Integer.parseInt(required(properties, "perf.rate")),
+            duration(properties, "perf.warmup"),
+            duration(properties, "perf.duration"),
+            mix(required(properties, "perf.mix")),
+            Integer.parseInt(required(properties, "perf.seed-cases")),
+            p99Limits,
+            Double.parseDouble(required(properties, "perf.min-throughput-ratio")),
+            Double.parseDouble(required(properties, "perf.max-error-rate"))
+        );
+    }
+
+    /**
+     * Parses {@code read:70,create:15,...}. Routes that are not listed get no traffic.
+     */
+    static Map<Route, Integer> mix(String value) {
+        Map<Route, Integer> mix = new EnumMap<>(Route.class);
+        for (String part : value.split(",")) {
+            String[] weight = part.trim().split(":");
+            if (weight.length != 2) {
+                throw new IllegalArgumentException("perf.mix entries must be route:weight, got '" + part + "'");
+            }
+            mix.put(Route.valueOf(weight[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(weight[1].trim()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("perf.mix must give at least one route a positive weight");
+        }
+        return mix;
+    }
+
+    private static Duration duration(Properties properties, String name) {
+        return DurationStyle.detectAndParse(required(properties, name));
+    }
+
+    private static String required(Properties properties, String name) {
+        String value = properties.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException(name + " is not set in " + RESOURCE);
+        }
+        return value.trim();
+    }
+}
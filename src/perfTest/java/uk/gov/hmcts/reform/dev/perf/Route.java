@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.perf;
+
+import java.util.Locale;
+
+/**
+ * The operations {@link CaseLoadTest} mixes, each recorded in its own histogram.
+ */
+enum Route {
+    CREATE,
+    READ,
+    UPDATE,
+    DELETE;
+
+    String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,8 +1,12 @@
 package uk.gov.hmcts.reform.dev.controllers;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -10,25 +14,59 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import uk.gov.hmcts.reform.dev.models.BatchItemResult;
+import uk.gov.hmcts.reform.dev.models.BatchItemResult.Outcome;
 import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseHistoryEntry;
+import uk.gov.hmcts.reform.dev.models.CaseIngestStatus;
+import uk.gov.hmcts.reform.dev.models.CaseLookup;
+import uk.gov.hmcts.reform.dev.models.CasePage;
+import uk.gov.hmcts.reform.dev.models.CaseSearchCriteria;
+import uk.gov.hmcts.reform.dev.models.CaseSort;
+import uk.gov.hmcts.reform.dev.models.CaseStats;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+import uk.gov.hmcts.reform.dev.services.BatchTooLargeException;
+import uk.gov.hmcts.reform.dev.services.CaseChangeFeed;
+import uk.gov.hmcts.reform.dev.services.CaseCursor;
+import uk.gov.hmcts.reform.dev.services.CaseExportService;
+import uk.gov.hmcts.reform.dev.services.CaseHistoryService;
+import uk.gov.hmcts.reform.dev.services.CaseIngestQueue;
 import uk.gov.hmcts.reform.dev.services.CaseService;
+import uk.gov.hmcts.reform.dev.services.CaseStatsService;
+import uk.gov.hmcts.reform.dev.services.CaseTextCursor;
+import uk.gov.hmcts.reform.dev.services.CaseTextSearchService;
+import uk.gov.hmcts.reform.dev.services.CaseVersionConflictException;
 
 @ExtendWith(MockitoExtension.class)
 class CaseControllerUnitTest {
@@ -38,6 +76,24 @@ class CaseControllerUnitTest {
     @Mock
     private CaseService caseService;
 
+    @Mock
+    private CaseExportService caseExportService;
+
+    @Mock
+    private CaseTextSearchService caseTextSearchService;
+
+    @Mock
+    private CaseStatsService caseStatsService;
+
+    @Mock
+    private CaseChangeFeed caseChangeFeed;
+
+    @Mock
+    private CaseIngestQueue caseIngestQueue;
+
+    @Mock
+    private CaseHistoryService caseHistoryService;
+
     @InjectMocks
     private CaseController caseController;
 
@@ -82,6 +138,108 @@ class CaseControllerUnitTest {
                 .andExpect(jsonPath("$.caseId").value("CASE-123456"));
     }
 
+    @Test
+    @DisplayName("Should queue a case for write-behind insertion and return a tracking token")
+    void createCaseAsync_Queued_ReturnsAccepted() throws Exception {
+        when(caseIngestQueue.submit(any(Case.class))).thenReturn(Optional.of(CaseIngestStatus.pending("abc")));
+
+        mockMvc.perform(post("/api/cases/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Test Case\",\"status\":\"TODO\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/cases/async/abc"))
+                .andExpect(jsonPath("$.token").value("abc"))
+                .andExpect(jsonPath("$.state").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("Should push back with 429 when the write-behind queue is full")
+    void createCaseAsync_QueueFull_ReturnsTooManyRequests() throws Exception {
+        when(caseIngestQueue.submit(any(Case.class))).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/api/cases/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Test Case\",\"status\":\"TODO\"}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    @Test
+    @DisplayName("Should reject a case without a title before queueing it")
+    void createCaseAsync_BlankTitle_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/cases/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\" \",\"status\":\"TODO\"}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(caseIngestQueue);
+    }
+
+    @Test
+    @DisplayName("Should resolve an ingest token to the created case id")
+    void getIngestStatus_Created_ReturnsId() throws Exception {
+        when(caseIngestQueue.getStatus("abc")).thenReturn(Optional.of(CaseIngestStatus.created("abc", 7L)));
+
+        mockMvc.perform(get("/api/cases/async/abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("CREATED"))
+                .andExpect(jsonPath("$.id").value(7));
+    }
+
+    @Test
+    @DisplayName("Should return not found for an unknown or expired ingest token")
+    void getIngestStatus_Unknown_ReturnsNotFound() throws Exception {
+        when(caseIngestQueue.getStatus("nope")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/cases/async/nope"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should resolve many ids in one call and report the missing ones")
+    void getCasesByIds_SomeMissing_ReturnsFoundAndMissing() throws Exception {
+        Case found = new Case();
+        found.setId(2L);
+        found.setTitle("Found");
+        when(caseService.getCasesByIds(List.of(2L, 9L))).thenReturn(new CaseLookup(List.of(found), List.of(9L)));
+
+        mockMvc.perform(get("/api/cases").param("ids", "2,9"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(2))
+                .andExpect(jsonPath("$.missing[0]").value(9));
+    }
+
+    @Test
+    @DisplayName("Should reject ids combined with a view instead of picking one of the two")
+    void getCasesByIds_WithView_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/cases").param("ids", "2,9").param("view", "summary"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(caseService);
+    }
+
+    @Test
+    @DisplayName("Should page a case's history from the cursor")
+    void getCaseHistory_WithCursor_ReturnsPage() throws Exception {
+        CaseHistoryEntry entry = CaseHistoryEntry.of(1L, CaseHistoryEntry.Type.STATUS_CHANGED, "COMPLETED", "TODO",
+                                                     2L, LocalDateTime.now());
+        when(caseHistoryService.getHistory(1L, 10L, 50)).thenReturn(new CasePage<>(List.of(entry), null));
+
+        mockMvc.perform(get("/api/cases/1/history").param("cursor", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].type").value("STATUS_CHANGED"))
+                .andExpect(jsonPath("$.items[0].previousStatus").value("TODO"));
+    }
+
+    @Test
+    @DisplayName("Should reject a history cursor that is not an entry id")
+    void getCaseHistory_MalformedCursor_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/cases/1/history").param("cursor", "abc"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(caseHistoryService);
+    }
+
     @Test
     @DisplayName("Should return bad request when title is null")
     void createCase_NullTitle_ReturnsBadRequest() throws Exception {
@@ -126,6 +284,54 @@ class CaseControllerUnitTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("Should return conflict when caseId already exists")
+    void createCase_DuplicateCaseId_ReturnsConflict() throws Exception {
+        Case task = new Case();
+        task.setTitle("Test Case");
+        task.setStatus("TODO");
+        task.setCaseId("CASE-123456");
+
+        when(caseService.createCase(any(Case.class)))
+            .thenThrow(new DataIntegrityViolationException("uk_cases_case_id"));
+
+        mockMvc.perform(post("/api/cases")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Should return per-item results for batch create")
+    void createCases_MixedBatch_ReturnsPerItemResults() throws Exception {
+        when(caseService.createCases(anyList())).thenReturn(List.of(
+            BatchItemResult.of(0, 51L, Outcome.CREATED),
+            BatchItemResult.invalid(1, null, "Title is required")
+        ));
+
+        mockMvc.perform(post("/api/cases/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"title\": \"Case 1\", \"status\": \"TODO\"}, {\"status\": \"TODO\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].index").value(0))
+                .andExpect(jsonPath("$[0].id").value(51))
+                .andExpect(jsonPath("$[0].outcome").value("CREATED"))
+                .andExpect(jsonPath("$[1].outcome").value("INVALID"))
+                .andExpect(jsonPath("$[1].message").value("Title is required"));
+    }
+
+    @Test
+    @DisplayName("Should reject batch create above the size limit")
+    void createCases_TooLarge_ReturnsPayloadTooLarge() throws Exception {
+        when(caseService.createCases(anyList())).thenThrow(new BatchTooLargeException(2, 1));
+
+        mockMvc.perform(post("/api/cases/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"title\": \"Case 1\", \"status\": \"TODO\"},"
+                    + " {\"title\": \"Case 2\", \"status\": \"TODO\"}]"))
+                .andExpect(status().isPayloadTooLarge());
+    }
+
     @Test
     @DisplayName("Should return case when valid ID is provided")
     void getCaseById_ValidId_ReturnsCase() throws Exception {
@@ -136,11 +342,13 @@ class CaseControllerUnitTest {
         task.setStatus("TODO");
         task.setCaseId("CASE-123456");
         task.setCreatedDate(LocalDateTime.now());
+        task.setVersion(2L);
 
         when(caseService.getCaseById(1L)).thenReturn(Optional.of(task));
 
         mockMvc.perform(get("/api/cases/1"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.title").value("Test Case"))
                 .andExpect(jsonPath("$.description").value("Test Description"))
@@ -148,6 +356,76 @@ class CaseControllerUnitTest {
                 .andExpect(jsonPath("$.caseId").value("CASE-123456"));
     }
 
+    @Test
+    @DisplayName("Should return 304 without a body when the case is unchanged")
+    void getCaseById_MatchingIfNoneMatch_ReturnsNotModified() throws Exception {
+        Case task = new Case();
+        task.setId(1L);
+        task.setTitle("Test Case");
+        task.setUpdatedDate(LocalDateTime.of(2024, 1, 1, 9, 0));
+        task.setVersion(2L);
+        when(caseService.getCaseById(1L)).thenReturn(Optional.of(task));
+
+        mockMvc.perform(get("/api/cases/1").header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should return compact summaries when view=summary is requested")
+    void getCases_SummaryView_ReturnsListColumnsOnly() throws Exception {
+        CaseSummary summary = new CaseSummary(1L, "CASE-1", "Case 1", "TODO", LocalDateTime.of(2024, 2, 1, 9, 0),
+                                              LocalDateTime.of(2024, 1, 1, 9, 0));
+        when(caseService.getCaseSummaryPage(CaseSort.CREATED_DATE, null, 50))
+            .thenReturn(new CasePage<>(List.of(summary), null));
+
+        mockMvc.perform(get("/api/cases").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.items[0].caseId").value("CASE-1"))
+                .andExpect(jsonPath("$.items[0].dueDateTime").exists())
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.items[0].createdDate").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should send no Last-Modified on pages and answer a matching If-None-Match with 304")
+    void getCases_MatchingIfNoneMatch_ReturnsNotModifiedWithoutLastModified() throws Exception {
+        Case task = new Case();
+        task.setId(1L);
+        task.setUpdatedDate(LocalDateTime.of(2024, 1, 1, 9, 0));
+        task.setVersion(1L);
+        when(caseService.getCasePage(CaseSort.CREATED_DATE, null, 50)).thenReturn(new CasePage<>(List.of(task), null));
+
+        String etag = mockMvc.perform(get("/api/cases"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/cases").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Summary pages differing only in colliding string hashes should get different ETags")
+    void getCases_SummaryHashCollision_ReturnsDifferentEtags() throws Exception {
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 9, 0);
+        // "Aa" and "BB" have the same String.hashCode
+        when(caseService.getCaseSummaryPage(CaseSort.CREATED_DATE, null, 50))
+            .thenReturn(new CasePage<>(List.of(new CaseSummary(1L, "CASE-1", "Case 1", "Aa", null, created)), null))
+            .thenReturn(new CasePage<>(List.of(new CaseSummary(1L, "CASE-1", "Case 1", "BB", null, created)), null));
+
+        String first = mockMvc.perform(get("/api/cases").param("view", "summary"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String second = mockMvc.perform(get("/api/cases").param("view", "summary"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(first).isNotEqualTo(second);
+    }
+
     @Test
     @DisplayName("Should return not found when case ID does not exist")
     void getCaseById_NonExistentId_ReturnsNotFound() throws Exception {
@@ -158,8 +436,8 @@ class CaseControllerUnitTest {
     }
 
     @Test
-    @DisplayName("Should return all cases")
-    void getAllCases_ReturnsAllCases() throws Exception {
+    @DisplayName("Should return first page of cases with next cursor")
+    void getCases_FirstPage_ReturnsItemsAndCursor() throws Exception {
         Case case1 = new Case();
         case1.setId(1L);
         case1.setTitle("Case 1");
@@ -173,18 +451,181 @@ class CaseControllerUnitTest {
         case2.setCaseId("CASE-654321");
 
         List<Case> cases = Arrays.asList(case1, case2);
-        when(caseService.getAllCases()).thenReturn(cases);
+        when(caseService.getCasePage(CaseSort.CREATED_DATE, null, 2)).thenReturn(new CasePage<>(cases, "next"));
+
+        mockMvc.perform(get("/api/cases").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Case 1"))
+                .andExpect(jsonPath("$.items[0].status").value("TODO"))
+                .andExpect(jsonPath("$.items[1].id").value(2))
+                .andExpect(jsonPath("$.items[1].title").value("Case 2"))
+                .andExpect(jsonPath("$.items[1].status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @DisplayName("Should pass decoded cursor through to the service")
+    void getCases_WithCursor_ReturnsNextPage() throws Exception {
+        CaseCursor cursor = new CaseCursor(CaseSort.DUE_DATE_TIME, LocalDateTime.of(2024, 12, 31, 23, 59), 7L);
+        when(caseService.getCasePage(CaseSort.DUE_DATE_TIME, cursor, 50))
+            .thenReturn(new CasePage<>(List.of(), null));
+
+        mockMvc.perform(get("/api/cases")
+                .param("sort", "dueDateTime")
+                .param("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should return bad request for malformed cursor")
+    void getCases_MalformedCursor_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/cases").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return bad request when cursor was issued for another sort")
+    void getCases_CursorForOtherSort_ReturnsBadRequest() throws Exception {
+        String cursor = new CaseCursor(CaseSort.CREATED_DATE, LocalDateTime.now(), 1L).encode();
+
+        mockMvc.perform(get("/api/cases")
+                .param("sort", "dueDateTime")
+                .param("cursor", cursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return bad request for unknown sort")
+    void getCases_UnknownSort_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/cases").param("sort", "title"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should bind search filters and return matching page")
+    void searchCases_WithFilters_ReturnsPage() throws Exception {
+        Case match = new Case();
+        match.setId(3L);
+        match.setTitle("Case 3");
+        match.setStatus("TODO");
+        match.setCaseId("CASE-3");
+        ArgumentCaptor<CaseSearchCriteria> criteria = ArgumentCaptor.forClass(CaseSearchCriteria.class);
+        when(caseService.searchCases(criteria.capture(), isNull(), eq(20)))
+            .thenReturn(new CasePage<>(List.of(match), null));
+
+        mockMvc.perform(get("/api/cases/search")
+                .param("status", "TODO")
+                .param("caseId", "CASE-3")
+                .param("dueFrom", "2024-01-01T00:00:00")
+                .param("dueTo", "2024-02-01T00:00:00")
+                .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].caseId").value("CASE-3"));
+
+        assertThat(criteria.getValue().getStatus()).isEqualTo("TODO");
+        assertThat(criteria.getValue().getCaseId()).isEqualTo("CASE-3");
+        assertThat(criteria.getValue().getDueFrom()).isEqualTo(LocalDateTime.of(2024, 1, 1, 0, 0));
+        assertThat(criteria.getValue().getDueTo()).isEqualTo(LocalDateTime.of(2024, 2, 1, 0, 0));
+        assertThat(criteria.getValue().getCreatedFrom()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should return bad request when search due window is inverted")
+    void searchCases_InvertedDueWindow_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/cases/search")
+                .param("dueFrom", "2024-02-01T00:00:00")
+                .param("dueTo", "2024-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(caseService);
+    }
+
+    @Test
+    @DisplayName("Should return ranked text search results with the next cursor")
+    void searchCaseText_WithCursor_ReturnsPage() throws Exception {
+        Case match = new Case();
+        match.setId(4L);
+        match.setTitle("Housing appeal");
+        CaseTextCursor cursor = new CaseTextCursor(1.5f, 2L);
+        when(caseTextSearchService.search("housing appeal", cursor, 10))
+            .thenReturn(new CasePage<>(List.of(match), "next"));
+
+        mockMvc.perform(get("/api/cases/search/text")
+                .param("q", "housing appeal")
+                .param("cursor", cursor.encode())
+                .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(4))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @DisplayName("Should return bad request for a blank text query")
+    void searchCaseText_BlankQuery_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/cases/search/text").param("q", "  "))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(caseTextSearchService);
+    }
 
-        mockMvc.perform(get("/api/cases"))
+    @Test
+    @DisplayName("Should return per-status counts from the stats service")
+    void getCaseStats_ReturnsCounts() throws Exception {
+        when(caseStatsService.getStats()).thenReturn(
+            new CaseStats(5, 2, Map.of("TODO", 3L, "OVERDUE", 2L), Instant.parse("2024-01-01T09:00:00Z")));
+
+        mockMvc.perform(get("/api/cases/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.overdue").value(2))
+                .andExpect(jsonPath("$.byStatus.TODO").value(3));
+    }
+
+    @Test
+    @DisplayName("Should reject a change feed resume position that is not a sequence number")
+    void streamChanges_MalformedLastEventId_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/cases/changes").header("Last-Event-ID", "abc"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(caseChangeFeed);
+    }
+
+    @Test
+    @DisplayName("Should stream filtered cases as newline-delimited JSON")
+    void exportCases_WithFilters_StreamsNdjson() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(3);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        }).when(caseExportService).exportCases(eq("TODO"), eq(from), isNull(), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/cases/export")
+                .param("status", "TODO")
+                .param("createdFrom", "2024-01-01T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(2))
-                .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[0].title").value("Case 1"))
-                .andExpect(jsonPath("$[0].status").value("TODO"))
-                .andExpect(jsonPath("$[1].id").value(2))
-                .andExpect(jsonPath("$[1].title").value("Case 2"))
-                .andExpect(jsonPath("$[1].status").value("IN_PROGRESS"));
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    @DisplayName("Should return bad request when export date range is inverted")
+    void exportCases_InvertedRange_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/cases/export")
+                .param("createdFrom", "2024-02-01T00:00:00")
+                .param("createdTo", "2024-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(caseExportService);
     }
 
     @Test
@@ -196,18 +637,62 @@ class CaseControllerUnitTest {
         updatedCase.setStatus("COMPLETED");
         updatedCase.setCaseId("CASE-123456");
         updatedCase.setUpdatedDate(LocalDateTime.now());
+        updatedCase.setVersion(4L);
 
-        when(caseService.updateCaseStatus(1L, "COMPLETED")).thenReturn(updatedCase);
+        when(caseService.updateCaseStatus(1L, "COMPLETED", null)).thenReturn(updatedCase);
 
         mockMvc.perform(put("/api/cases/1/status")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("{\"status\": \"COMPLETED\"}"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.title").value("Test Case"))
                 .andExpect(jsonPath("$.status").value("COMPLETED"));
     }
 
+    @Test
+    @DisplayName("Should pass If-Match version through to a conditional update")
+    void updateCaseStatus_IfMatch_UpdatesExpectedVersion() throws Exception {
+        Case updatedCase = new Case();
+        updatedCase.setId(1L);
+        updatedCase.setStatus("COMPLETED");
+        updatedCase.setVersion(4L);
+
+        when(caseService.updateCaseStatus(1L, "COMPLETED", 3L)).thenReturn(updatedCase);
+
+        mockMvc.perform(put("/api/cases/1/status")
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"COMPLETED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    @DisplayName("Should return precondition failed when the version has moved on")
+    void updateCaseStatus_StaleIfMatch_ReturnsPreconditionFailed() throws Exception {
+        when(caseService.updateCaseStatus(1L, "COMPLETED", 3L)).thenThrow(new CaseVersionConflictException(1L, 3L));
+
+        mockMvc.perform(put("/api/cases/1/status")
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"COMPLETED\"}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("Should return precondition failed for a weak If-Match tag")
+    void updateCaseStatus_WeakIfMatch_ReturnsPreconditionFailed() throws Exception {
+        mockMvc.perform(put("/api/cases/1/status")
+                .header("If-Match", "W/\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"COMPLETED\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        verifyNoInteractions(caseService);
+    }
+
     @Test
     @DisplayName("Should return bad request when status is null")
     void updateCaseStatus_NullStatus_ReturnsBadRequest() throws Exception {
@@ -238,7 +723,7 @@ class CaseControllerUnitTest {
     @Test
     @DisplayName("Should return not found when updating non-existent case")
     void updateCaseStatus_NonExistentCase_ReturnsNotFound() throws Exception {
-        when(caseService.updateCaseStatus(999L, "COMPLETED")).thenReturn(null);
+        when(caseService.updateCaseStatus(999L, "COMPLETED", null)).thenReturn(null);
 
         mockMvc.perform(put("/api/cases/999/status")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -246,6 +731,24 @@ class CaseControllerUnitTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("Should return per-item results for batch status update")
+    void updateCaseStatuses_MixedBatch_ReturnsPerItemResults() throws Exception {
+        when(caseService.updateCaseStatuses(anyList())).thenReturn(List.of(
+            BatchItemResult.of(0, 1L, Outcome.UPDATED),
+            BatchItemResult.of(1, 999L, Outcome.NOT_FOUND)
+        ));
+
+        mockMvc.perform(put("/api/cases/status/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"id\": 1, \"status\": \"COMPLETED\"}, {\"id\": 999, \"status\": \"COMPLETED\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$[1].id").value(999))
+                .andExpect(jsonPath("$[1].outcome").value("NOT_FOUND"))
+                .andExpect(jsonPath("$[1].message").doesNotExist());
+    }
+
     @Test
     @DisplayName("Should delete case successfully")
     void deleteCase_ExistingCase_ReturnsNoContent() throws Exception {
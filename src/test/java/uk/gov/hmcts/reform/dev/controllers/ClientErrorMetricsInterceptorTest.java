@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientErrorMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ClientErrorMetricsInterceptor interceptor = new ClientErrorMetricsInterceptor(registry);
+
+    @Test
+    @DisplayName("Should count 404 responses by route")
+    void afterCompletion_NotFound_IncrementsCounter() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/cases/999");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/cases/{id}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(404);
+
+        interceptor.afterCompletion(request, response, new Object(), null);
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(registry.get(ClientErrorMetricsInterceptor.METRIC)
+                       .tag("status", "404")
+                       .tag("uri", "/api/cases/{id}")
+                       .counter()
+                       .count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should not record successful or server error responses")
+    void afterCompletion_NonClientError_RecordsNothing() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/cases/1");
+        MockHttpServletResponse ok = new MockHttpServletResponse();
+        MockHttpServletResponse failed = new MockHttpServletResponse();
+        failed.setStatus(503);
+
+        interceptor.afterCompletion(request, ok, new Object(), null);
+        interceptor.afterCompletion(request, failed, new Object(), null);
+
+        assertThat(registry.find(ClientErrorMetricsInterceptor.METRIC).counter()).isNull();
+    }
+}
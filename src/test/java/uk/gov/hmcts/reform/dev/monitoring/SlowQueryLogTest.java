@@ -0,0 +1,122 @@
+package uk.gov.hmcts.reform.dev.monitoring;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowQueryLogTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T09:00:00Z");
+
+    private final MutableClock clock = new MutableClock(START);
+    private final SlowQueryLog slowQueryLog =
+        new SlowQueryLog(Duration.ofMillis(100), 0, 2, Duration.ofMinutes(15), clock);
+
+    @Test
+    @DisplayName("Should strip literals and collapse bind lists when normalising")
+    void normalise_StripsParameterValues() {
+        String shape = SlowQueryLog.normalise(
+            "select c1_0.id from cases c1_0\n  where c1_0.status = 'OPEN' and c1_0.id in (?, ?, ?)"
+                + " fetch first 51 rows");
+
+        assertThat(shape).isEqualTo("select c1_0.id from cases c1_0 where c1_0.status = ? and c1_0.id in (?...) "
+                                        + "fetch first ? rows");
+    }
+
+    @Test
+    @DisplayName("Should group slow queries by shape and ignore fast ones")
+    void record_GroupsByShape() {
+        slowQueryLog.record("select * from cases where id = 1", 150);
+        slowQueryLog.record("select * from cases where id = 2", 250);
+        slowQueryLog.record("select * from cases where id = 3", 20);
+
+        List<SlowQueryLog.SlowQuery> slowest = slowQueryLog.slowest();
+
+        assertThat(slowest).hasSize(1);
+        assertThat(slowest.get(0).sql()).isEqualTo("select * from cases where id = ?");
+        assertThat(slowest.get(0).count()).isEqualTo(2);
+        assertThat(slowest.get(0).maxMillis()).isEqualTo(250);
+        assertThat(slowest.get(0).meanMillis()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should report only the slowest shapes, worst first")
+    void slowest_LimitsToTopShapes() {
+        slowQueryLog.record("select * from cases", 300);
+        slowQueryLog.record("delete from cases where id = ?", 120);
+        slowQueryLog.record("update cases set status = ? where id = ?", 500);
+
+        assertThat(slowQueryLog.slowest())
+            .extracting(SlowQueryLog.SlowQuery::sql)
+            .containsExactly("update cases set status = ? where id = ?", "select * from cases");
+
+        slowQueryLog.reset();
+        assertThat(slowQueryLog.slowest()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should drop a slow shape once it is older than the window")
+    void slowest_OldSpike_AgesOut() {
+        slowQueryLog.record("select * from cases", 900);
+        clock.now = START.plus(Duration.ofMinutes(10));
+        slowQueryLog.record("select * from cases where id = 1", 150);
+
+        assertThat(slowQueryLog.slowest())
+            .extracting(SlowQueryLog.SlowQuery::sql)
+            .containsExactly("select * from cases", "select * from cases where id = ?");
+
+        clock.now = START.plus(Duration.ofMinutes(16));
+
+        assertThat(slowQueryLog.slowest())
+            .extracting(SlowQueryLog.SlowQuery::sql)
+            .containsExactly("select * from cases where id = ?");
+    }
+
+    @Test
+    @DisplayName("Should sum a shape's executions across the buckets in the window")
+    void slowest_ShapeInSeveralBuckets_MergesStats() {
+        slowQueryLog.record("select * from cases where id = 1", 100);
+        clock.now = START.plus(Duration.ofMinutes(3));
+        slowQueryLog.record("select * from cases where id = 2", 300);
+
+        List<SlowQueryLog.SlowQuery> slowest = slowQueryLog.slowest();
+
+        assertThat(slowest).hasSize(1);
+        assertThat(slowest.get(0).count()).isEqualTo(2);
+        assertThat(slowest.get(0).maxMillis()).isEqualTo(300);
+        assertThat(slowest.get(0).meanMillis()).isEqualTo(200);
+        assertThat(slowest.get(0).lastSeen()).isEqualTo(START.plus(Duration.ofMinutes(3)));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
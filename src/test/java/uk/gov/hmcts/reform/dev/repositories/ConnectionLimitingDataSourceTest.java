@@ -0,0 +1,138 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConnectionLimitingDataSourceTest {
+
+    private static final int POOL_SIZE = 3;
+
+    @Test
+    @DisplayName("Many virtual threads should never have more connections borrowed than the pool holds")
+    void getConnection_ManyVirtualThreads_NeverOverSubscribesPool() throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:limiter;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(POOL_SIZE);
+        try (HikariDataSource pool = new HikariDataSource(config)) {
+            AtomicInteger borrowers = new AtomicInteger();
+            AtomicInteger mostBorrowers = new AtomicInteger();
+            ConnectionLimitingDataSource limited = new ConnectionLimitingDataSource(
+                counting(pool, borrowers, mostBorrowers), POOL_SIZE, Duration.ofSeconds(30));
+
+            List<Future<?>> tasks = new ArrayList<>();
+            try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 200; i++) {
+                    tasks.add(threads.submit(() -> {
+                        try (Connection connection = limited.getConnection()) {
+                            connection.createStatement().execute("select 1");
+                            Thread.sleep(2);
+                        }
+                        return null;
+                    }));
+                }
+            }
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+
+            assertThat(mostBorrowers.get()).isBetween(1, POOL_SIZE);
+            assertThat(pool.getHikariPoolMXBean().getActiveConnections()).isZero();
+            assertThat(limited.availablePermits()).isEqualTo(POOL_SIZE);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail fast when no connection frees up within the timeout")
+    void getConnection_Exhausted_ThrowsDatabaseBusy() throws Exception {
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenReturn(mock(Connection.class));
+        ConnectionLimitingDataSource limited = new ConnectionLimitingDataSource(pool, 1, Duration.ofMillis(50));
+
+        Connection held = limited.getConnection();
+
+        assertThatThrownBy(limited::getConnection).isInstanceOf(DatabaseBusyException.class);
+        held.close();
+        assertThat(limited.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Closing a connection twice should return its permit once")
+    void close_Twice_ReleasesOnePermit() throws Exception {
+        Connection connection = mock(Connection.class);
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenReturn(connection);
+        ConnectionLimitingDataSource limited = new ConnectionLimitingDataSource(pool, 2, Duration.ofMillis(50));
+
+        Connection handedOut = limited.getConnection();
+        handedOut.close();
+        handedOut.close();
+
+        verify(connection, times(2)).close();
+        assertThat(limited.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should return the permit when the pool fails to hand out a connection")
+    void getConnection_PoolFails_ReleasesPermit() throws Exception {
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenThrow(new SQLTransientConnectionException("timed out"));
+        ConnectionLimitingDataSource limited = new ConnectionLimitingDataSource(pool, 1, Duration.ofMillis(50));
+
+        assertThatThrownBy(limited::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(limited.availablePermits()).isEqualTo(1);
+    }
+
+    /**
+     * Counts threads from the moment they ask the pool for a connection until they close it, which is everything
+     * the pool has to serve at once.
+     */
+    private static DataSource counting(DataSource pool, AtomicInteger borrowers, AtomicInteger mostBorrowers) {
+        return new DelegatingDataSource(pool) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                mostBorrowers.accumulateAndGet(borrowers.incrementAndGet(), Math::max);
+                Connection connection = super.getConnection();
+                return (Connection) Proxy.newProxyInstance(
+                    ConnectionLimitingDataSourceTest.class.getClassLoader(),
+                    new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        if ("close".equals(method.getName())) {
+                            borrowers.decrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchWriterTest {
+
+    private final List<List<Integer>> written = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("Should write queued items in batches of at most the batch size")
+    void writeNextBatch_MoreThanBatchSize_SplitsBatches() throws Exception {
+        BatchWriter<Integer> writer = new BatchWriter<>("test", 10, 2, Duration.ofSeconds(1), written::add);
+        for (int i = 1; i <= 3; i++) {
+            assertThat(writer.offer(i)).isTrue();
+        }
+
+        assertThat(writer.writeNextBatch(Duration.ZERO)).isEqualTo(2);
+        assertThat(writer.writeNextBatch(Duration.ZERO)).isEqualTo(1);
+        assertThat(writer.writeNextBatch(Duration.ZERO)).isZero();
+
+        assertThat(written).containsExactly(List.of(1, 2), List.of(3));
+    }
+
+    @Test
+    @DisplayName("Should turn items away once the queue is full")
+    void offer_QueueFull_ReturnsFalse() {
+        BatchWriter<Integer> writer = new BatchWriter<>("test", 1, 2, Duration.ofSeconds(1), written::add);
+
+        assertThat(writer.offer(1)).isTrue();
+        assertThat(writer.offer(2)).isFalse();
+        assertThat(writer.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should write everything still queued before the writer thread stops")
+    void stop_ItemsQueued_DrainsQueue() {
+        BatchWriter<Integer> writer = new BatchWriter<>("test", 10, 2, Duration.ofSeconds(5), written::add);
+        writer.offer(1);
+        writer.offer(2);
+        writer.offer(3);
+        writer.start();
+
+        writer.stop();
+
+        assertThat(writer.isRunning()).isFalse();
+        assertThat(writer.size()).isZero();
+        assertThat(written).flatExtracting(batch -> batch).containsExactly(1, 2, 3);
+    }
+}
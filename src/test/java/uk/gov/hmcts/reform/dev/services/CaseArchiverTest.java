@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseArchiverTest {
+
+    @Mock
+    private CaseService caseService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should archive cases not updated for the configured age and record the archive meters")
+    void run_ClosedStatus_ArchivesCasesOlderThanAge() {
+        CaseArchiver archiver = new CaseArchiver(caseService, meterRegistry, new String[] {"COMPLETED"},
+                                                 Duration.ofDays(90), 2, 10);
+        ArgumentCaptor<LocalDateTime> before = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(caseService.archive(eq("COMPLETED"), any(LocalDateTime.class), eq(2))).thenReturn(1);
+
+        archiver.run();
+
+        verify(caseService).archive(eq("COMPLETED"), before.capture(), eq(2));
+        assertThat(before.getValue()).isBefore(LocalDateTime.now().minusDays(89));
+        assertThat(meterRegistry.get("cases.archived").tag("status", "COMPLETED").counter().count())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.get("cases.archive.run").timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,118 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import uk.gov.hmcts.reform.dev.models.Case;
+
+class CaseChangeFeedTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)");
+
+    private CaseChangeFeed feed;
+    private MockMvc mockMvc;
+
+    @RestController
+    static class FeedController {
+
+        private final CaseChangeFeed feed;
+
+        FeedController(CaseChangeFeed feed) {
+            this.feed = feed;
+        }
+
+        @GetMapping("/changes")
+        SseEmitter changes(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+            return feed.subscribe(lastEventId);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        feed = new CaseChangeFeed(3, 10, Duration.ofSeconds(30), Duration.ofMinutes(1));
+        mockMvc = MockMvcBuilders.standaloneSetup(new FeedController(feed)).build();
+    }
+
+    @Test
+    @DisplayName("Should push committed changes to a live subscriber")
+    void subscribe_LiveChange_IsPushed() throws Exception {
+        MockHttpServletResponse response = subscribe(null);
+
+        feed.onCaseChanged(CaseChangedEvent.statusChanged(newCase(1L, "COMPLETED"), "TODO"));
+
+        String body = awaitContent(response, "COMPLETED");
+        assertThat(body).contains("event:STATUS_CHANGED").contains("\"previousStatus\":\"TODO\"");
+    }
+
+    @Test
+    @DisplayName("Should replay retained events after Last-Event-ID before live ones")
+    void subscribe_LastEventId_ReplaysMissedEvents() throws Exception {
+        MockHttpServletResponse first = subscribe(null);
+        feed.onCaseChanged(CaseChangedEvent.created(newCase(1L, "TODO")));
+        long firstId = eventIds(awaitContent(first, "id:")).get(0);
+        feed.onCaseChanged(CaseChangedEvent.created(newCase(2L, "TODO")));
+        feed.onStatusesChanged(new CaseStatusesChangedEvent("TODO", CaseService.OVERDUE_STATUS, List.of(1L)));
+
+        MockHttpServletResponse resumed = subscribe(firstId);
+
+        String body = awaitContent(resumed, "OVERDUE");
+        assertThat(eventIds(body)).containsExactly(firstId + 1, firstId + 2);
+    }
+
+    @Test
+    @DisplayName("Should send a reset when the resume position is no longer retained")
+    void subscribe_ExpiredLastEventId_SendsReset() throws Exception {
+        MockHttpServletResponse response = subscribe(1L);
+
+        assertThat(awaitContent(response, "event:" + CaseChangeFeed.RESET_EVENT)).isNotEmpty();
+    }
+
+    private MockHttpServletResponse subscribe(Long lastEventId) throws Exception {
+        var builder = get("/changes");
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn().getResponse();
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String body = response.getContentAsString();
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            body = response.getContentAsString();
+        }
+        assertThat(body).contains(expected);
+        return body;
+    }
+
+    private static List<Long> eventIds(String body) {
+        Matcher matcher = EVENT_ID.matcher(body);
+        return matcher.results().map(result -> Long.parseLong(result.group(1))).toList();
+    }
+
+    private static Case newCase(Long id, String status) {
+        Case caseEntity = new Case();
+        caseEntity.setId(id);
+        caseEntity.setStatus(status);
+        caseEntity.setVersion(1L);
+        return caseEntity;
+    }
+}
@@ -0,0 +1,125 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseHistoryEntry;
+import uk.gov.hmcts.reform.dev.models.CaseHistoryEntry.Type;
+import uk.gov.hmcts.reform.dev.repositories.CaseHistoryRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CaseHistoryServiceTest {
+
+    @Mock
+    private CaseHistoryRepository caseHistoryRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CaseHistoryService caseHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        caseHistoryService = new CaseHistoryService(caseHistoryRepository, meterRegistry, 3, 100, 2,
+                                                    Duration.ZERO, Duration.ofSeconds(1), 200);
+    }
+
+    @Test
+    @DisplayName("Should write every recorded change as one batch")
+    void writeNextBatch_RecordedChanges_InsertsOneBatch() throws Exception {
+        caseHistoryService.onCaseChanged(CaseChangedEvent.created(newCase(1L, "TODO")));
+        caseHistoryService.onCaseChanged(CaseChangedEvent.statusChanged(newCase(1L, "COMPLETED"), "TODO"));
+        caseHistoryService.onStatusesChanged(new CaseStatusesChangedEvent("TODO", CaseService.OVERDUE_STATUS,
+                                                                          List.of(2L)));
+
+        assertThat(caseHistoryService.writeNextBatch(Duration.ZERO)).isEqualTo(3);
+
+        List<CaseHistoryEntry> written = captureSaved();
+        assertThat(written).extracting(CaseHistoryEntry::getCaseId, CaseHistoryEntry::getType,
+                                       CaseHistoryEntry::getStatus, CaseHistoryEntry::getPreviousStatus)
+            .containsExactly(tuple(1L, Type.CREATED, "TODO", null),
+                             tuple(1L, Type.STATUS_CHANGED, "COMPLETED", "TODO"),
+                             tuple(2L, Type.STATUS_CHANGED, CaseService.OVERDUE_STATUS, "TODO"));
+    }
+
+    @Test
+    @DisplayName("Should drop and count changes at once when the queue is full")
+    void onCaseChanged_QueueFull_CountsDropped() {
+        for (long id = 1; id <= 4; id++) {
+            caseHistoryService.onCaseChanged(CaseChangedEvent.created(newCase(id, "TODO")));
+        }
+
+        assertThat(meterRegistry.get("cases.history.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should retry a failed insert with the same entries")
+    void writeNextBatch_InsertFails_Retries() throws Exception {
+        caseHistoryService.onCaseChanged(CaseChangedEvent.deleted(newCase(1L, "TODO")));
+        when(caseHistoryRepository.saveAll(anyList()))
+            .thenThrow(new DataAccessResourceFailureException("down"))
+            .thenReturn(List.of());
+
+        caseHistoryService.writeNextBatch(Duration.ZERO);
+
+        verify(caseHistoryRepository, times(2)).saveAll(anyList());
+        assertThat(meterRegistry.get("cases.history.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should insert entries one at a time once the batch keeps failing, and drop only the bad one")
+    void writeNextBatch_BatchKeepsFailing_DropsOnlyBadEntry() throws Exception {
+        caseHistoryService.onCaseChanged(CaseChangedEvent.created(newCase(1L, "TODO")));
+        caseHistoryService.onCaseChanged(CaseChangedEvent.created(newCase(2L, "TODO")));
+        when(caseHistoryRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("bad row"));
+        when(caseHistoryRepository.save(any(CaseHistoryEntry.class))).thenAnswer(invocation -> {
+            CaseHistoryEntry entry = invocation.getArgument(0);
+            if (entry.getCaseId() == 2L) {
+                throw new DataIntegrityViolationException("bad row");
+            }
+            return entry;
+        });
+
+        assertThat(caseHistoryService.writeNextBatch(Duration.ZERO)).isEqualTo(2);
+
+        verify(caseHistoryRepository, times(2)).saveAll(anyList());
+        verify(caseHistoryRepository, times(2)).save(any(CaseHistoryEntry.class));
+        assertThat(meterRegistry.get("cases.history.failed").counter().count()).isEqualTo(1.0);
+        assertThat(caseHistoryService.writeNextBatch(Duration.ZERO)).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CaseHistoryEntry> captureSaved() {
+        ArgumentCaptor<List<CaseHistoryEntry>> saved = ArgumentCaptor.forClass(List.class);
+        verify(caseHistoryRepository).saveAll(saved.capture());
+        return saved.getValue();
+    }
+
+    private static Case newCase(Long id, String status) {
+        Case caseEntity = new Case();
+        caseEntity.setId(id);
+        caseEntity.setStatus(status);
+        caseEntity.setVersion(1L);
+        return caseEntity;
+    }
+}
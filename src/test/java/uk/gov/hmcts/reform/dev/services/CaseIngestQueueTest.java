@@ -0,0 +1,160 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import uk.gov.hmcts.reform.dev.models.BatchItemResult;
+import uk.gov.hmcts.reform.dev.models.BatchItemResult.Outcome;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseIngestStatus;
+import uk.gov.hmcts.reform.dev.models.CaseIngestStatus.State;
+
+@ExtendWith(MockitoExtension.class)
+class CaseIngestQueueTest {
+
+    @Mock
+    private CaseService caseService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should write everything queued since the last commit as one batch")
+    void writeNextBatch_QueuedCases_WritesOneBatch() throws Exception {
+        CaseIngestQueue ingestQueue = newQueue(10, Duration.ofMinutes(1));
+        String first = ingestQueue.submit(newCase("First")).orElseThrow().getToken();
+        String second = ingestQueue.submit(newCase(" ")).orElseThrow().getToken();
+        when(caseService.createCases(anyList())).thenReturn(List.of(
+            BatchItemResult.of(0, 7L, Outcome.CREATED),
+            BatchItemResult.invalid(1, null, "Title is required")));
+
+        assertThat(ingestQueue.getStatus(first)).map(CaseIngestStatus::getState).contains(State.PENDING);
+        assertThat(ingestQueue.writeNextBatch(Duration.ZERO)).isEqualTo(2);
+
+        verify(caseService, times(1)).createCases(anyList());
+        assertThat(ingestQueue.getStatus(first)).map(CaseIngestStatus::getId).contains(7L);
+        assertThat(ingestQueue.getStatus(second)).map(CaseIngestStatus::getState).contains(State.FAILED);
+    }
+
+    @Test
+    @DisplayName("Should reject cases once the queue is full")
+    void submit_QueueFull_ReturnsEmpty() {
+        CaseIngestQueue ingestQueue = newQueue(1, Duration.ofMinutes(1));
+
+        assertThat(ingestQueue.submit(newCase("First"))).isPresent();
+        assertThat(ingestQueue.submit(newCase("Second"))).isEmpty();
+        assertThat(meterRegistry.get("cases.ingest.rejected").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cases.ingest.queue.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch one case at a time so only the bad case fails")
+    void writeNextBatch_BatchFails_IsolatesBadCase() throws Exception {
+        CaseIngestQueue ingestQueue = newQueue(10, Duration.ofMinutes(1));
+        Case good = newCase("Good");
+        Case duplicate = newCase("Duplicate");
+        String goodToken = ingestQueue.submit(good).orElseThrow().getToken();
+        String duplicateToken = ingestQueue.submit(duplicate).orElseThrow().getToken();
+        when(caseService.createCases(List.of(good, duplicate))).thenThrow(new DataIntegrityViolationException("dup"));
+        when(caseService.createCases(List.of(good))).thenReturn(List.of(BatchItemResult.of(0, 1L, Outcome.CREATED)));
+        when(caseService.createCases(List.of(duplicate))).thenThrow(new DataIntegrityViolationException("dup"));
+
+        ingestQueue.writeNextBatch(Duration.ZERO);
+
+        assertThat(ingestQueue.getStatus(goodToken)).map(CaseIngestStatus::getState).contains(State.CREATED);
+        assertThat(ingestQueue.getStatus(duplicateToken)).map(CaseIngestStatus::getMessage)
+            .contains("caseId already exists");
+    }
+
+    @Test
+    @DisplayName("Should keep a batch and write it again when the database is briefly unavailable")
+    void writeNextBatch_DatabaseUnavailable_RetriesWithoutFailingCases() throws Exception {
+        CaseIngestQueue ingestQueue = newQueue(10, Duration.ofMinutes(1));
+        Case first = newCase("First");
+        Case second = newCase("Second");
+        String firstToken = ingestQueue.submit(first).orElseThrow().getToken();
+        String secondToken = ingestQueue.submit(second).orElseThrow().getToken();
+        when(caseService.createCases(List.of(first, second)))
+            .thenThrow(new CannotCreateTransactionException("Could not open JPA EntityManager"))
+            .thenThrow(new CannotCreateTransactionException("Could not open JPA EntityManager"))
+            .thenReturn(List.of(BatchItemResult.of(0, 1L, Outcome.CREATED),
+                                BatchItemResult.of(1, 2L, Outcome.CREATED)));
+
+        ingestQueue.writeNextBatch(Duration.ZERO);
+
+        verify(caseService, times(3)).createCases(List.of(first, second));
+        assertThat(ingestQueue.getStatus(firstToken)).map(CaseIngestStatus::getId).contains(1L);
+        assertThat(ingestQueue.getStatus(secondToken)).map(CaseIngestStatus::getId).contains(2L);
+    }
+
+    @Test
+    @DisplayName("Should retry a lone case through an outage instead of failing it")
+    void writeNextBatch_OutageWhileIsolating_OnlyFailsBadCase() throws Exception {
+        CaseIngestQueue ingestQueue = newQueue(10, Duration.ofMinutes(1));
+        Case good = newCase("Good");
+        Case duplicate = newCase("Duplicate");
+        String goodToken = ingestQueue.submit(good).orElseThrow().getToken();
+        String duplicateToken = ingestQueue.submit(duplicate).orElseThrow().getToken();
+        when(caseService.createCases(List.of(good, duplicate))).thenThrow(new DataIntegrityViolationException("dup"));
+        when(caseService.createCases(List.of(good)))
+            .thenThrow(new CannotCreateTransactionException("Could not open JPA EntityManager"))
+            .thenReturn(List.of(BatchItemResult.of(0, 1L, Outcome.CREATED)));
+        when(caseService.createCases(List.of(duplicate))).thenThrow(new DataIntegrityViolationException("dup"));
+
+        ingestQueue.writeNextBatch(Duration.ZERO);
+
+        assertThat(ingestQueue.getStatus(goodToken)).map(CaseIngestStatus::getState).contains(State.CREATED);
+        assertThat(ingestQueue.getStatus(duplicateToken)).map(CaseIngestStatus::getState).contains(State.FAILED);
+    }
+
+    @Test
+    @DisplayName("Should forget a token once its retention has passed")
+    void writeNextBatch_RetentionPassed_ForgetsToken() throws Exception {
+        CaseIngestQueue ingestQueue = newQueue(10, Duration.ZERO);
+        String token = ingestQueue.submit(newCase("First")).orElseThrow().getToken();
+        when(caseService.createCases(anyList())).thenReturn(List.of(BatchItemResult.of(0, 1L, Outcome.CREATED)));
+        ingestQueue.writeNextBatch(Duration.ZERO);
+
+        assertThat(ingestQueue.writeNextBatch(Duration.ZERO)).isZero();
+
+        assertThat(ingestQueue.getStatus(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should stop accepting cases when shutting down")
+    void submit_AfterStop_ReturnsEmpty() {
+        CaseIngestQueue ingestQueue = newQueue(10, Duration.ofMinutes(1));
+        ingestQueue.stop();
+
+        assertThat(ingestQueue.submit(newCase("Late"))).isEmpty();
+        verifyNoInteractions(caseService);
+    }
+
+    private CaseIngestQueue newQueue(int capacity, Duration tokenRetention) {
+        return new CaseIngestQueue(caseService, meterRegistry, capacity, 100, 1000, tokenRetention,
+                                   Duration.ofSeconds(1), Duration.ofMillis(1));
+    }
+
+    private static Case newCase(String title) {
+        Case caseEntity = new Case();
+        caseEntity.setTitle(title);
+        caseEntity.setStatus("TODO");
+        return caseEntity;
+    }
+}
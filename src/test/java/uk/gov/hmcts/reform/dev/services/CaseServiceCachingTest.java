@@ -0,0 +1,223 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseLookup;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository.CaseBeforeChange;
+
+@SpringJUnitConfig
+class CaseServiceCachingTest {
+
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    @Configuration
+    static class Config {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CaseService.CASES_CACHE);
+        }
+
+        @Bean
+        CaseCache caseCache(CacheManager cacheManager) {
+            return new CaseCache(cacheManager, Duration.ofMinutes(1));
+        }
+
+        @Bean
+        CaseService caseService(CaseRepository caseRepository, CaseCache caseCache,
+                                ApplicationEventPublisher events) {
+            return new CaseService(caseRepository, caseCache, events, 200, 1000);
+        }
+    }
+
+    @MockitoBean
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private CaseService caseService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CaseService.CASES_CACHE).clear();
+        clearInvocations(caseRepository);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the cache")
+    void getCaseById_RepeatedRead_HitsRepositoryOnce() {
+        when(caseRepository.findById(1L)).thenReturn(Optional.of(newCase("TODO")));
+
+        caseService.getCaseById(1L);
+        Optional<Case> second = caseService.getCaseById(1L);
+
+        assertThat(second).map(Case::getStatus).contains("TODO");
+        verify(caseRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should not cache missing cases")
+    void getCaseById_Missing_IsNotCached() {
+        when(caseRepository.findById(2L)).thenReturn(Optional.empty());
+
+        caseService.getCaseById(2L);
+        caseService.getCaseById(2L);
+
+        verify(caseRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("Should replace the cached entry when the status changes")
+    void updateCaseStatus_CachedCase_ReadsNewStatus() {
+        when(caseRepository.findById(1L)).thenReturn(Optional.of(newCase("TODO")));
+        caseService.getCaseById(1L);
+        when(caseRepository.updateStatus(eq(1L), eq("COMPLETED"), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(before(newCase(1L, "TODO", 0L))));
+
+        caseService.updateCaseStatus(1L, "COMPLETED", null);
+
+        assertThat(caseService.getCaseById(1L)).map(Case::getStatus).contains("COMPLETED");
+        verify(caseRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should evict the cached entry when the case is deleted")
+    void deleteCase_CachedCase_EvictsEntry() {
+        when(caseRepository.findById(1L)).thenReturn(Optional.of(newCase("TODO")));
+        when(caseRepository.deleteReturningRow(1L)).thenReturn(Optional.of(before(newCase(1L, "TODO", 0L))));
+        caseService.getCaseById(1L);
+
+        caseService.deleteCase(1L);
+
+        assertThat(cacheManager.getCache(CaseService.CASES_CACHE).get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("A read that loaded a case before an update committed should not overwrite the updated copy")
+    void getCaseById_UpdateCommitsDuringRead_KeepsUpdatedCase() {
+        when(caseRepository.updateStatus(eq(1L), eq("COMPLETED"), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(before(newCase(1L, "TODO", 0L))));
+        when(caseRepository.findById(1L)).thenAnswer(invocation -> {
+            // the update commits after this read loaded version 0 but before it caches it
+            caseService.updateCaseStatus(1L, "COMPLETED", null);
+            return Optional.of(newCase(1L, "TODO", 0L));
+        });
+
+        caseService.getCaseById(1L);
+
+        assertThat(caseService.getCaseById(1L)).map(Case::getStatus).contains("COMPLETED");
+        verify(caseRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("A read that loaded a case before a delete committed should not put the deleted case back")
+    void getCaseById_DeleteCommitsDuringRead_DoesNotCacheDeletedCase() {
+        AtomicInteger reads = new AtomicInteger();
+        when(caseRepository.deleteReturningRow(1L)).thenReturn(Optional.of(before(newCase(1L, "TODO", 0L))));
+        when(caseRepository.findById(1L)).thenAnswer(invocation -> {
+            if (reads.incrementAndGet() > 1) {
+                return Optional.empty();
+            }
+            // the delete commits after this read loaded the case but before it caches it
+            caseService.deleteCase(1L);
+            return Optional.of(newCase(1L, "TODO", 0L));
+        });
+
+        caseService.getCaseById(1L);
+
+        assertThat(cacheManager.getCache(CaseService.CASES_CACHE).get(1L)).isNull();
+        assertThat(caseService.getCaseById(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A multi-get that loaded a case before a delete committed should not put the deleted case back")
+    void getCasesByIds_DeleteCommitsDuringRead_DoesNotCacheDeletedCase() {
+        when(caseRepository.deleteReturningRow(1L)).thenReturn(Optional.of(before(newCase(1L, "TODO", 0L))));
+        when(caseRepository.findAllById(List.of(1L))).thenAnswer(invocation -> {
+            caseService.deleteCase(1L);
+            return List.of(newCase(1L, "TODO", 0L));
+        });
+
+        caseService.getCasesByIds(List.of(1L));
+
+        assertThat(cacheManager.getCache(CaseService.CASES_CACHE).get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should take cached cases from the cache and load only the rest in one query")
+    void getCasesByIds_PartlyCached_LoadsMissesOnceInRequestOrder() {
+        when(caseRepository.findById(1L)).thenReturn(Optional.of(newCase(1L, "TODO")));
+        caseService.getCaseById(1L);
+        when(caseRepository.findAllById(List.of(3L, 2L))).thenReturn(List.of(newCase(2L, "COMPLETED")));
+
+        CaseLookup lookup = caseService.getCasesByIds(List.of(3L, 1L, 2L, 1L));
+
+        assertThat(lookup.getItems()).extracting(Case::getId).containsExactly(1L, 2L);
+        assertThat(lookup.getMissing()).containsExactly(3L);
+        assertThat(caseService.getCaseById(2L)).map(Case::getStatus).contains("COMPLETED");
+        verify(caseRepository, times(1)).findAllById(List.of(3L, 2L));
+        verify(caseRepository, never()).findById(2L);
+    }
+
+    @Test
+    @DisplayName("Should refuse more ids than a page holds")
+    void getCasesByIds_TooMany_Throws() {
+        List<Long> ids = LongStream.rangeClosed(1, 201).boxed().toList();
+
+        assertThatThrownBy(() -> caseService.getCasesByIds(ids)).isInstanceOf(BatchTooLargeException.class);
+    }
+
+    private static Case newCase(String status) {
+        return newCase(1L, status);
+    }
+
+    private static Case newCase(Long id, String status) {
+        return newCase(id, status, null);
+    }
+
+    private static Case newCase(Long id, String status, Long version) {
+        Case caseEntity = new Case();
+        caseEntity.setId(id);
+        caseEntity.setTitle("Case " + id);
+        caseEntity.setStatus(status);
+        caseEntity.setVersion(version);
+        return caseEntity;
+    }
+
+    private static CaseBeforeChange before(Case caseEntity) {
+        return PROJECTIONS.createProjection(CaseBeforeChange.class, caseEntity);
+    }
+}
@@ -0,0 +1,330 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import uk.gov.hmcts.reform.dev.models.BatchItemResult;
+import uk.gov.hmcts.reform.dev.models.BatchItemResult.Outcome;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CasePage;
+import uk.gov.hmcts.reform.dev.models.CaseSort;
+import uk.gov.hmcts.reform.dev.models.CaseStatusUpdate;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository.CaseBeforeChange;
+
+@ExtendWith(MockitoExtension.class)
+class CaseServiceUnitTest {
+
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
+    private CacheManager cacheManager;
+
+    private CaseService caseService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CaseService.CASES_CACHE);
+        caseService = new CaseService(caseRepository, new CaseCache(cacheManager, Duration.ofMinutes(1)), events, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Should return a cursor only when more rows exist")
+    void getCasePage_ExtraRow_ReturnsNextCursor() {
+        Case first = newCase(1L, "TODO");
+        first.setCreatedDate(LocalDateTime.of(2024, 1, 1, 10, 0));
+        Case second = newCase(2L, "TODO");
+        second.setCreatedDate(LocalDateTime.of(2024, 1, 1, 11, 0));
+        when(caseRepository.findFirstPageByCreatedDate(PageRequest.of(0, 3)))
+            .thenReturn(List.of(first, second, newCase(3L, "TODO")));
+
+        CasePage<Case> page = caseService.getCasePage(CaseSort.CREATED_DATE, null, 10);
+
+        assertThat(page.getItems()).extracting(Case::getId).containsExactly(1L, 2L);
+        assertThat(CaseCursor.decode(page.getNextCursor()))
+            .contains(new CaseCursor(CaseSort.CREATED_DATE, second.getCreatedDate(), 2L));
+    }
+
+    @Test
+    @DisplayName("Should save valid cases in one call and report invalid ones in place")
+    void createCases_MixedBatch_ReturnsResultsInRequestOrder() {
+        Case valid = newCase(null, "TODO");
+        Case missingTitle = newCase(null, "TODO");
+        missingTitle.setTitle(" ");
+        when(caseRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Case> toSave = invocation.getArgument(0);
+            toSave.get(0).setId(51L);
+            return toSave;
+        });
+
+        List<BatchItemResult> results = caseService.createCases(List.of(missingTitle, valid));
+
+        assertThat(results).extracting(BatchItemResult::getOutcome).containsExactly(Outcome.INVALID, Outcome.CREATED);
+        assertThat(results.get(1).getId()).isEqualTo(51L);
+        assertThat(valid.getCreatedDate()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should reject caseIds that already exist or repeat within the batch")
+    void createCases_DuplicateCaseIds_ReportsInvalid() {
+        Case existing = newCase(null, "TODO");
+        existing.setCaseId("CASE-1");
+        Case fresh = newCase(null, "TODO");
+        fresh.setCaseId("CASE-2");
+        Case repeated = newCase(null, "TODO");
+        repeated.setCaseId("CASE-2");
+        when(caseRepository.findExistingCaseIds(List.of("CASE-1", "CASE-2", "CASE-2"))).thenReturn(List.of("CASE-1"));
+        when(caseRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<BatchItemResult> results = caseService.createCases(List.of(existing, fresh, repeated));
+
+        assertThat(results).extracting(BatchItemResult::getOutcome)
+            .containsExactly(Outcome.INVALID, Outcome.CREATED, Outcome.INVALID);
+    }
+
+    @Test
+    @DisplayName("Should reject batches above the configured limit")
+    void createCases_TooLarge_Throws() {
+        List<Case> cases = List.of(newCase(null, "TODO"), newCase(null, "TODO"), newCase(null, "TODO"),
+                                   newCase(null, "TODO"));
+
+        assertThatThrownBy(() -> caseService.createCases(cases)).isInstanceOf(BatchTooLargeException.class);
+        verifyNoInteractions(caseRepository);
+    }
+
+    @Test
+    @DisplayName("Should update status in place, build the new case from the replaced row and publish the transition")
+    void updateCaseStatus_Unconditional_UpdatesInPlace() {
+        when(caseRepository.updateStatus(eq(1L), eq("COMPLETED"), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(before(newCase(1L, "TODO", 2L))));
+
+        Case updated = caseService.updateCaseStatus(1L, "COMPLETED", null);
+
+        assertThat(updated.getStatus()).isEqualTo("COMPLETED");
+        assertThat(updated.getTitle()).isEqualTo("Case 1");
+        assertThat(updated.getVersion()).isEqualTo(3L);
+        verify(caseRepository, never()).findById(any());
+        verify(caseRepository, never()).save(any(Case.class));
+        verify(events).publishEvent(CaseChangedEvent.statusChanged(updated, "TODO"));
+    }
+
+    @Test
+    @DisplayName("Should throw a conflict when the expected version no longer matches")
+    void updateCaseStatus_StaleVersion_ThrowsConflict() {
+        when(caseRepository.updateStatusIfVersion(eq(1L), eq("COMPLETED"), eq(3L), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(before(newCase(1L, "TODO", 4L))));
+
+        assertThatThrownBy(() -> caseService.updateCaseStatus(1L, "COMPLETED", 3L))
+            .isInstanceOf(CaseVersionConflictException.class);
+        verify(events, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should return null when updating a case that does not exist")
+    void updateCaseStatus_Missing_ReturnsNull() {
+        when(caseRepository.updateStatusIfVersion(eq(9L), eq("COMPLETED"), eq(3L), any(LocalDateTime.class)))
+            .thenReturn(Optional.empty());
+
+        assertThat(caseService.updateCaseStatus(9L, "COMPLETED", 3L)).isNull();
+        verify(caseRepository, never()).existsById(any());
+        verify(events, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should update found cases and report missing and invalid items")
+    void updateCaseStatuses_MixedBatch_ReturnsPerItemOutcome() {
+        Case existing = newCase(1L, "TODO");
+        when(caseRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(existing));
+
+        List<BatchItemResult> results = caseService.updateCaseStatuses(List.of(
+            new CaseStatusUpdate(1L, "COMPLETED"),
+            new CaseStatusUpdate(2L, "COMPLETED"),
+            new CaseStatusUpdate(null, "COMPLETED")
+        ));
+
+        assertThat(results).extracting(BatchItemResult::getOutcome)
+            .containsExactly(Outcome.UPDATED, Outcome.NOT_FOUND, Outcome.INVALID);
+        assertThat(existing.getStatus()).isEqualTo("COMPLETED");
+    }
+
+    @Test
+    @DisplayName("Should evict cached entries for cases changed by a batch status update")
+    void updateCaseStatuses_CachedCase_EvictsEntry() {
+        Case existing = newCase(1L, "TODO");
+        cacheManager.getCache(CaseService.CASES_CACHE).put(1L, existing);
+        when(caseRepository.findAllById(List.of(1L))).thenReturn(List.of(existing));
+
+        caseService.updateCaseStatuses(List.of(new CaseStatusUpdate(1L, "COMPLETED")));
+
+        assertThat(cacheManager.getCache(CaseService.CASES_CACHE).get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should build the summary cursor from the sort column of the last summary")
+    void getCaseSummaryPage_ExtraRow_ReturnsNextCursor() {
+        LocalDateTime due = LocalDateTime.of(2024, 2, 1, 9, 0);
+        CaseSummary first = new CaseSummary(1L, "CASE-1", "Case 1", "TODO", due.minusDays(1), null);
+        CaseSummary second = new CaseSummary(2L, "CASE-2", "Case 2", "TODO", due, null);
+        CaseSummary third = new CaseSummary(3L, "CASE-3", "Case 3", "TODO", due.plusDays(1), null);
+        when(caseRepository.findFirstSummaryPageByDueDateTime(PageRequest.of(0, 3)))
+            .thenReturn(List.of(first, second, third));
+
+        CasePage<CaseSummary> page = caseService.getCaseSummaryPage(CaseSort.DUE_DATE_TIME, null, 2);
+
+        assertThat(page.getItems()).containsExactly(first, second);
+        assertThat(CaseCursor.decode(page.getNextCursor()))
+            .contains(new CaseCursor(CaseSort.DUE_DATE_TIME, due, 2L));
+    }
+
+    @Test
+    @DisplayName("Should fill a short due-date page with cases that have no due date")
+    void getCasePage_LastDatedRows_FillsWithUndatedCases() {
+        LocalDateTime due = LocalDateTime.of(2024, 2, 1, 9, 0);
+        Case dated = newCase(5L, "TODO");
+        dated.setDueDateTime(due.plusDays(1));
+        Case undated = newCase(2L, "TODO");
+        when(caseRepository.findPageByDueDateTimeAfter(due, 4L, PageRequest.of(0, 3))).thenReturn(List.of(dated));
+        when(caseRepository.findPageWithoutDueDateTimeAfter(0L, PageRequest.of(0, 2))).thenReturn(List.of(undated));
+
+        CasePage<Case> page = caseService.getCasePage(
+            CaseSort.DUE_DATE_TIME, new CaseCursor(CaseSort.DUE_DATE_TIME, due, 4L), 2);
+
+        assertThat(page.getItems()).containsExactly(dated, undated);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should publish a change event for a created case")
+    void createCase_Saved_PublishesCreatedEvent() {
+        Case saved = newCase(1L, "TODO");
+        when(caseRepository.save(any(Case.class))).thenReturn(saved);
+
+        caseService.createCase(newCase(null, "TODO"));
+
+        verify(events).publishEvent(CaseChangedEvent.created(saved));
+    }
+
+    @Test
+    @DisplayName("Should delete the case in one statement and publish the removed row")
+    void deleteCase_Existing_PublishesDeletedEvent() {
+        when(caseRepository.deleteReturningRow(1L)).thenReturn(Optional.of(before(newCase(1L, "TODO", 2L))));
+        ArgumentCaptor<CaseChangedEvent> published = ArgumentCaptor.forClass(CaseChangedEvent.class);
+
+        assertThat(caseService.deleteCase(1L)).isTrue();
+
+        verify(caseRepository, never()).findById(any());
+        verify(events).publishEvent(published.capture());
+        assertThat(published.getValue().change()).isEqualTo(CaseChangedEvent.Change.DELETED);
+        assertThat(published.getValue().previousStatus()).isEqualTo("TODO");
+        assertThat(published.getValue().current().getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Of two deletes of the same case only the one that removed it should succeed and publish")
+    void deleteCase_DeletedTwice_PublishesOnce() {
+        when(caseRepository.deleteReturningRow(1L))
+            .thenReturn(Optional.of(before(newCase(1L, "TODO", 2L))))
+            .thenReturn(Optional.empty());
+
+        assertThat(caseService.deleteCase(1L)).isTrue();
+        assertThat(caseService.deleteCase(1L)).isFalse();
+
+        verify(events, times(1)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should mark a chunk of overdue ids and evict them from the cache")
+    void markOverdue_DueCases_TransitionsChunkAndEvicts() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 9, 0);
+        cacheManager.getCache(CaseService.CASES_CACHE).put(1L, newCase(1L, "TODO"));
+        when(caseRepository.findIdsDueBefore("TODO", now, PageRequest.of(0, 2))).thenReturn(List.of(1L, 2L));
+        when(caseRepository.transitionStatus(eq(List.of(1L, 2L)), eq("TODO"), eq(CaseService.OVERDUE_STATUS),
+                                             any(LocalDateTime.class))).thenReturn(2);
+
+        assertThat(caseService.markOverdue("TODO", now, 2)).isEqualTo(2);
+        assertThat(cacheManager.getCache(CaseService.CASES_CACHE).get(1L)).isNull();
+        verify(events).publishEvent(new CaseStatusesChangedEvent("TODO", CaseService.OVERDUE_STATUS,
+                                                                 List.of(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("Should not issue an update when nothing is overdue")
+    void markOverdue_NothingDue_SkipsUpdate() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 9, 0);
+        when(caseRepository.findIdsDueBefore("TODO", now, PageRequest.of(0, 2))).thenReturn(List.of());
+
+        assertThat(caseService.markOverdue("TODO", now, 2)).isZero();
+        verify(caseRepository, never()).transitionStatus(anyList(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should move a chunk of closed cases to the archive and publish one event for it")
+    void archive_ClosedCases_CopiesDeletesAndPublishes() {
+        LocalDateTime before = LocalDateTime.of(2024, 1, 1, 9, 0);
+        when(caseRepository.findIdsForArchive("COMPLETED", before, PageRequest.of(0, 2))).thenReturn(List.of(1L, 2L));
+        when(caseRepository.deleteAllByIds(List.of(1L, 2L))).thenReturn(2);
+
+        assertThat(caseService.archive("COMPLETED", before, 2)).isEqualTo(2);
+        verify(caseRepository).copyToArchive(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(events).publishEvent(new CasesArchivedEvent("COMPLETED", List.of(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("Should read an archived case when it is no longer in the hot table")
+    void getCaseById_Archived_FallsBackToArchive() {
+        when(caseRepository.findById(1L)).thenReturn(Optional.empty());
+        when(caseRepository.findArchivedById(1L)).thenReturn(Optional.of(newCase(1L, "COMPLETED")));
+
+        assertThat(caseService.getCaseById(1L)).map(Case::getStatus).contains("COMPLETED");
+    }
+
+    private static Case newCase(Long id, String status) {
+        return newCase(id, status, null);
+    }
+
+    private static Case newCase(Long id, String status, Long version) {
+        Case caseEntity = new Case();
+        caseEntity.setId(id);
+        caseEntity.setTitle("Case " + id);
+        caseEntity.setStatus(status);
+        caseEntity.setVersion(version);
+        return caseEntity;
+    }
+
+    private static CaseBeforeChange before(Case caseEntity) {
+        return PROJECTIONS.createProjection(CaseBeforeChange.class, caseEntity);
+    }
+}
@@ -0,0 +1,123 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseStats;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository.StatusCount;
+
+@ExtendWith(MockitoExtension.class)
+class CaseStatsServiceTest {
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CaseStatsService caseStatsService;
+
+    @BeforeEach
+    void setUp() {
+        caseStatsService = new CaseStatsService(caseRepository, meterRegistry);
+        lenient().when(caseRepository.countByStatus())
+            .thenReturn(List.of(count("TODO", 3), count("COMPLETED", 1)));
+    }
+
+    @Test
+    @DisplayName("Should follow change events after reconciliation without querying again")
+    void getStats_AfterEvents_ReflectsChangesWithoutQuerying() {
+        caseStatsService.reconcile();
+
+        caseStatsService.onCaseChanged(CaseChangedEvent.created(newCase("TODO")));
+        caseStatsService.onCaseChanged(CaseChangedEvent.statusChanged(newCase("COMPLETED"), "TODO"));
+        caseStatsService.onCaseChanged(CaseChangedEvent.deleted(newCase("COMPLETED")));
+        caseStatsService.onStatusesChanged(new CaseStatusesChangedEvent("TODO", CaseService.OVERDUE_STATUS,
+                                                                         List.of(5L, 6L)));
+        CaseStats stats = caseStatsService.getStats();
+
+        assertThat(stats.getByStatus()).containsEntry("TODO", 1L).containsEntry("COMPLETED", 1L)
+            .containsEntry(CaseService.OVERDUE_STATUS, 2L);
+        assertThat(stats.getTotal()).isEqualTo(4);
+        assertThat(stats.getOverdue()).isEqualTo(2);
+        verify(caseRepository, times(1)).countByStatus();
+    }
+
+    @Test
+    @DisplayName("Should replace drifted counters on reconciliation and record the drift")
+    void reconcile_Drifted_ResetsToDatabaseCounts() {
+        caseStatsService.reconcile();
+        caseStatsService.onCaseChanged(CaseChangedEvent.created(newCase("TODO")));
+
+        caseStatsService.reconcile();
+
+        assertThat(caseStatsService.getStats().getByStatus()).containsEntry("TODO", 3L);
+        assertThat(meterRegistry.get("cases.stats.drift").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not count on the request thread before the first reconciliation")
+    void getStats_NotReconciled_DoesNotQuery() {
+        caseStatsService.onCaseChanged(CaseChangedEvent.created(newCase("TODO")));
+
+        CaseStats stats = caseStatsService.getStats();
+
+        assertThat(stats.getByStatus()).containsEntry("TODO", 1L);
+        assertThat(stats.getReconciledAt()).isNull();
+        verify(caseRepository, never()).countByStatus();
+    }
+
+    @Test
+    @DisplayName("Changes committed while the count runs should be kept once after the swap")
+    void reconcile_ChangeDuringCount_KeepsChangeOnce() {
+        caseStatsService.reconcile();
+        when(caseRepository.countByStatus()).thenAnswer(invocation -> {
+            // commits after the count's snapshot, so the rows below do not include it
+            caseStatsService.onCaseChanged(CaseChangedEvent.statusChanged(newCase("COMPLETED"), "TODO"));
+            return List.of(count("TODO", 3), count("COMPLETED", 1));
+        });
+
+        caseStatsService.reconcile();
+
+        assertThat(caseStatsService.getStats().getByStatus()).containsEntry("TODO", 2L)
+            .containsEntry("COMPLETED", 2L);
+        assertThat(meterRegistry.get("cases.stats.drift").counter().count()).isZero();
+    }
+
+    private static Case newCase(String status) {
+        Case caseEntity = new Case();
+        caseEntity.setId(1L);
+        caseEntity.setStatus(status);
+        return caseEntity;
+    }
+
+    private static StatusCount count(String status, long count) {
+        return new StatusCount() {
+            @Override
+            public String getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaseTextIndexTest {
+
+    private CaseTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CaseTextIndex();
+        index.add(1L, "Housing appeal", "Appeal against an eviction notice");
+        index.add(2L, "Benefit claim", "Appeal about a refused housing benefit claim");
+        index.add(3L, "Parking fine", "Dispute over a parking fine");
+        index.add(4L, "Housing repairs", "Landlord has not carried out repairs");
+    }
+
+    @Test
+    @DisplayName("Should match every query word regardless of case and punctuation")
+    void search_AllWordsRequired() {
+        List<CaseTextIndex.Hit> hits = index.search("HOUSING, appeal!", null, 10);
+
+        assertThat(hits).extracting(CaseTextIndex.Hit::id).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("housing fine", null, 10)).isEmpty();
+        assertThat(index.search("unknown", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rank cases that repeat the query word higher")
+    void search_RanksByTermFrequency() {
+        List<CaseTextIndex.Hit> hits = index.search("appeal", null, 10);
+
+        assertThat(hits).extracting(CaseTextIndex.Hit::id).containsExactly(1L, 2L);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    @DisplayName("Should page through hits after the given position without overlap")
+    void search_AfterHit_ReturnsNextPage() {
+        List<CaseTextIndex.Hit> firstPage = index.search("housing", null, 2);
+        List<CaseTextIndex.Hit> secondPage = index.search("housing", firstPage.get(1), 2);
+
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(1);
+        assertThat(firstPage).extracting(CaseTextIndex.Hit::id)
+            .doesNotContain(secondPage.get(0).id());
+    }
+
+    @Test
+    @DisplayName("Should drop a removed case and ignore repeated adds")
+    void remove_IndexedCase_NoLongerMatches() {
+        index.add(3L, "Parking fine", "Dispute over a parking fine");
+        index.remove(1L, "Housing appeal", "Appeal against an eviction notice");
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("appeal", null, 10)).extracting(CaseTextIndex.Hit::id).containsExactly(2L);
+        assertThat(index.search("eviction", null, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,123 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import jakarta.persistence.EntityManager;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseSearchCriteria;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseTextSearchServiceTest {
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CaseTextSearchService caseTextSearchService;
+
+    @BeforeEach
+    void setUp() {
+        caseTextSearchService = new CaseTextSearchService(caseRepository, entityManager, transactionManager, 50,
+                                                           Duration.ofMillis(1));
+    }
+
+    @Test
+    @DisplayName("A case deleted while the index is being built should not be left in the index")
+    void rebuild_CaseDeletedDuringBuild_IsNotIndexed() {
+        Case first = newCase(1L, "Housing appeal");
+        Case second = newCase(2L, "Housing benefit");
+        // the delete of case 2 commits after the build read it but before the build indexed it
+        Stream<Case> cases = Stream.of(first, second).peek(caseEntity -> {
+            if (caseEntity == first) {
+                caseTextSearchService.onCaseChanged(CaseChangedEvent.deleted(second));
+            }
+        });
+        when(caseRepository.streamForExport(any(CaseSearchCriteria.class))).thenReturn(cases);
+        when(caseRepository.findAllById(anyList())).thenReturn(List.of(first));
+
+        caseTextSearchService.rebuild();
+
+        assertThat(caseTextSearchService.search("housing", null, 10).getItems())
+            .extracting(Case::getId)
+            .containsExactly(1L);
+        assertThat(caseTextSearchService.search("benefit", null, 10).getItems()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Changes after the index is built should be applied straight away")
+    void onCaseChanged_AfterBuild_UpdatesIndex() {
+        Case created = newCase(3L, "Parking fine");
+        when(caseRepository.streamForExport(any(CaseSearchCriteria.class))).thenReturn(Stream.empty());
+        when(caseRepository.findAllById(anyList())).thenReturn(List.of(created));
+        caseTextSearchService.rebuild();
+
+        caseTextSearchService.onCaseChanged(CaseChangedEvent.created(created));
+
+        assertThat(caseTextSearchService.search("parking", null, 10).getItems())
+            .extracting(Case::getId)
+            .containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Archived cases should be removed from the index using the text read back from the archive")
+    void onCasesArchived_AfterBuild_RemovesFromIndex() {
+        Case archived = newCase(4L, "Noise complaint");
+        when(caseRepository.streamForExport(any(CaseSearchCriteria.class))).thenReturn(Stream.of(archived));
+        when(caseRepository.findArchivedAllById(List.of(4L))).thenReturn(List.of(archived));
+        caseTextSearchService.rebuild();
+
+        caseTextSearchService.onCasesArchived(new CasesArchivedEvent("COMPLETED", List.of(4L)));
+
+        assertThat(caseTextSearchService.search("noise", null, 10).getItems()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A failed index build should be retried until it succeeds")
+    void buildWithRetries_DatabaseUnavailable_RetriesBuild() {
+        Case stored = newCase(5L, "Planning objection");
+        when(caseRepository.streamForExport(any(CaseSearchCriteria.class)))
+            .thenThrow(new DataAccessResourceFailureException("database unavailable"))
+            .thenReturn(Stream.of(stored));
+        when(caseRepository.findAllById(anyList())).thenReturn(List.of(stored));
+
+        caseTextSearchService.buildWithRetries();
+
+        assertThat(caseTextSearchService.search("planning", null, 10).getItems())
+            .extracting(Case::getId)
+            .containsExactly(5L);
+        verify(caseRepository, times(2)).streamForExport(any(CaseSearchCriteria.class));
+    }
+
+    private static Case newCase(Long id, String title) {
+        Case caseEntity = new Case();
+        caseEntity.setId(id);
+        caseEntity.setTitle(title);
+        caseEntity.setStatus("TODO");
+        caseEntity.setVersion(1L);
+        return caseEntity;
+    }
+}
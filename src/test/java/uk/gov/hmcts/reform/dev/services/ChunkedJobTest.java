@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedJobTest {
+
+    private static final ChunkedJob.Meters METERS = new ChunkedJob.Meters("job.run", "run", "job.rows", "rows");
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Mock
+    private ChunkedJob.Chunk chunk;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should run each status in chunks until a chunk comes back short")
+    void run_FullChunks_ContinuesUntilShortChunk() {
+        ChunkedJob job = new ChunkedJob(meterRegistry, METERS, new String[] {"TODO", "IN_PROGRESS"}, 2, 10, chunk);
+        when(chunk.process("TODO", CUTOFF, 2)).thenReturn(2, 2, 1);
+        when(chunk.process("IN_PROGRESS", CUTOFF, 2)).thenReturn(0);
+
+        assertThat(job.run(CUTOFF)).isEqualTo(5);
+
+        verify(chunk, times(3)).process("TODO", CUTOFF, 2);
+        verify(chunk).process("IN_PROGRESS", CUTOFF, 2);
+        assertThat(meterRegistry.get("job.rows").tag("status", "TODO").counter().count()).isEqualTo(5.0);
+        assertThat(meterRegistry.get("job.run").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stop after the configured number of chunks per run, across statuses")
+    void run_ChunkLimit_StopsEarly() {
+        ChunkedJob job = new ChunkedJob(meterRegistry, METERS, new String[] {"TODO", "IN_PROGRESS"}, 2, 3, chunk);
+        when(chunk.process(anyString(), eq(CUTOFF), anyInt())).thenReturn(2);
+
+        assertThat(job.run(CUTOFF)).isEqualTo(6);
+
+        verify(chunk, times(3)).process("TODO", CUTOFF, 2);
+        verify(chunk, times(0)).process("IN_PROGRESS", CUTOFF, 2);
+    }
+}
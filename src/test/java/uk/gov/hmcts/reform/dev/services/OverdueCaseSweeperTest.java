@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueCaseSweeperTest {
+
+    @Mock
+    private CaseService caseService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should mark cases due before now as overdue and record the sweep meters")
+    void run_OpenStatus_MarksCasesDueBeforeNow() {
+        OverdueCaseSweeper sweeper = new OverdueCaseSweeper(caseService, meterRegistry, new String[] {"TODO"}, 2, 10);
+        ArgumentCaptor<LocalDateTime> dueBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(caseService.markOverdue(eq("TODO"), any(LocalDateTime.class), eq(2))).thenReturn(1);
+        LocalDateTime started = LocalDateTime.now();
+
+        sweeper.run();
+
+        verify(caseService).markOverdue(eq("TODO"), dueBefore.capture(), eq(2));
+        assertThat(dueBefore.getValue()).isAfterOrEqualTo(started);
+        assertThat(meterRegistry.get("cases.overdue.marked").tag("status", "TODO").counter().count())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.get("cases.overdue.sweep").timer().count()).isEqualTo(1);
+    }
+}